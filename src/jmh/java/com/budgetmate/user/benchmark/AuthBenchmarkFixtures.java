@@ -0,0 +1,97 @@
+package com.budgetmate.user.benchmark;
+
+import com.budgetmate.user.entity.User;
+import com.budgetmate.user.metrics.AuthMetrics;
+import com.budgetmate.user.repository.RevokedTokenRepository;
+import com.budgetmate.user.repository.UserRepository;
+import com.budgetmate.user.security.JwtSigningKeys;
+import com.budgetmate.user.security.JwtTokenProvider;
+import com.budgetmate.user.security.VerifiedTokenCache;
+import com.budgetmate.user.service.TokenRevocationService;
+import com.budgetmate.user.service.UserDetailsServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mockito;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+// 스프링 컨텍스트 없이 인증 경로 객체를 조립 (DB는 Mockito로 대체 -> 순수 CPU/할당 비용만 측정)
+final class AuthBenchmarkFixtures {
+
+    static final String SECRET = "budgetmate-benchmark-secret-key-0123456789abcdef";
+    static final String EMAIL = "bench@budgetmate.com";
+
+    private AuthBenchmarkFixtures() {
+    }
+
+    static User user() {
+        return User.builder()
+                .id(42L)
+                .email(EMAIL)
+                .password("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z1XKqJ6sQ6sY1rD3QvP8xW6e")
+                .userName("벤치마크")
+                .roles(List.of("ROLE_USER"))
+                .build();
+    }
+
+    static UserDetailsServiceImpl userDetailsService(boolean principalCache) {
+        UserRepository userRepository = Mockito.mock(UserRepository.class);
+        Mockito.when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user()));
+
+        UserDetailsServiceImpl userDetailsService = new UserDetailsServiceImpl(userRepository, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(userDetailsService, "cacheEnabled", principalCache);
+        ReflectionTestUtils.setField(userDetailsService, "cacheTtl", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(userDetailsService, "cacheMaxSize", 10_000L);
+        ReflectionTestUtils.invokeMethod(userDetailsService, "init");
+        return userDetailsService;
+    }
+
+    static AuthMetrics authMetrics() {
+        return new AuthMetrics(new SimpleMeterRegistry());
+    }
+
+    // revoke된 토큰이 없는 상태 -> 모든 요청이 Bloom filter에서 끝남 (DB mock은 호출되지 않음)
+    static TokenRevocationService tokenRevocationService() {
+        TokenRevocationService service = new TokenRevocationService(Mockito.mock(RevokedTokenRepository.class), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "enabled", true);
+        ReflectionTestUtils.setField(service, "expectedInsertions", 100_000L);
+        ReflectionTestUtils.setField(service, "falsePositiveRate", 0.001);
+        ReflectionTestUtils.setField(service, "syncOverlap", Duration.ofSeconds(30));
+        ReflectionTestUtils.invokeMethod(service, "init");
+        service.rebuild();
+        return service;
+    }
+
+    // HS256: jwt.secret HMAC, RS256/EdDSA: 기동 시 만든 임시 키쌍
+    static JwtSigningKeys signingKeys(String algorithm) {
+        JwtSigningKeys signingKeys = new JwtSigningKeys(new DefaultResourceLoader(), event -> {
+        });
+        ReflectionTestUtils.setField(signingKeys, "algorithm", algorithm);
+        ReflectionTestUtils.setField(signingKeys, "keySetLocation", "");
+        ReflectionTestUtils.invokeMethod(signingKeys, "init");
+        return signingKeys;
+    }
+
+    static JwtTokenProvider tokenProvider(boolean tokenCache, boolean claimsPrincipal, boolean principalCache) {
+        return tokenProvider(tokenCache, claimsPrincipal, principalCache, "HS256");
+    }
+
+    static JwtTokenProvider tokenProvider(boolean tokenCache, boolean claimsPrincipal, boolean principalCache, String algorithm) {
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(verifiedTokenCache, "enabled", tokenCache);
+        ReflectionTestUtils.setField(verifiedTokenCache, "maxMemory", DataSize.ofMegabytes(16));
+        ReflectionTestUtils.invokeMethod(verifiedTokenCache, "init");
+
+        JwtTokenProvider provider = new JwtTokenProvider(userDetailsService(principalCache), verifiedTokenCache, authMetrics(), signingKeys(algorithm));
+        ReflectionTestUtils.setField(provider, "secretKey", SECRET);
+        ReflectionTestUtils.setField(provider, "acceptLegacyHmac", true);
+        ReflectionTestUtils.setField(provider, "claimsPrincipalEnabled", claimsPrincipal);
+        ReflectionTestUtils.setField(provider, "databasePrincipalPaths", new String[]{"/user/me"});
+        ReflectionTestUtils.invokeMethod(provider, "init");
+        return provider;
+    }
+}
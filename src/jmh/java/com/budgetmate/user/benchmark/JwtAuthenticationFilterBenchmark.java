@@ -0,0 +1,54 @@
+package com.budgetmate.user.benchmark;
+
+import com.budgetmate.user.security.JwtAuthenticationFilter;
+import com.budgetmate.user.security.JwtTokenProvider;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 요청 1건이 JwtAuthenticationFilter를 통과하는 전체 비용 (토큰 추출 -> 검증 -> principal 생성 -> SecurityContext 설정)
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    // claims: 토큰 클레임으로 principal 생성, database: UserDetailsService 조회 (Mock 리포지토리)
+    @Param({"claims", "database"})
+    public String principalSource;
+
+    @Param({"true", "false"})
+    public boolean tokenCache;
+
+    @Param({"true", "false"})
+    public boolean principalCache;
+
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+    private final FilterChain chain = (request, response) -> { };
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider provider = AuthBenchmarkFixtures.tokenProvider(tokenCache, "claims".equals(principalSource), principalCache);
+        filter = new JwtAuthenticationFilter(provider, AuthBenchmarkFixtures.authMetrics(), AuthBenchmarkFixtures.tokenRevocationService());
+        authorization = "Bearer " + provider.createToken(42L, AuthBenchmarkFixtures.EMAIL, List.of("ROLE_USER"));
+    }
+
+    @Benchmark
+    public Object doFilterInternal() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/user/points");
+        request.addHeader("Authorization", authorization);
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+}
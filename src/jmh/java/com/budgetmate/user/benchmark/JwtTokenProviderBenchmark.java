@@ -0,0 +1,53 @@
+package com.budgetmate.user.benchmark;
+
+import com.budgetmate.user.security.JwtTokenProvider;
+import com.budgetmate.user.security.VerifiedToken;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    @Param({"true", "false"})
+    public boolean tokenCache;
+
+    // 서명/검증 비용 비교 (HMAC vs RSA vs Ed25519)
+    @Param({"HS256", "RS256", "EdDSA"})
+    public String algorithm;
+
+    private JwtTokenProvider provider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        provider = AuthBenchmarkFixtures.tokenProvider(tokenCache, false, false, algorithm);
+        token = provider.createToken(42L, AuthBenchmarkFixtures.EMAIL, List.of("ROLE_USER"));
+    }
+
+    @Benchmark
+    public String createToken() {
+        return provider.createToken(42L, AuthBenchmarkFixtures.EMAIL, List.of("ROLE_USER"));
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return provider.validateToken(token);
+    }
+
+    @Benchmark
+    public String getEmail() {
+        return provider.getEmail(token);
+    }
+
+    @Benchmark
+    public VerifiedToken verify() {
+        return provider.verify(token);
+    }
+}
@@ -0,0 +1,52 @@
+package com.budgetmate.user.benchmark;
+
+import com.budgetmate.user.security.CustomUserDetails;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// principal 권한 목록 생성 + /login, /me 응답 직렬화 비용
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseBenchmark {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private CustomUserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        userDetails = new CustomUserDetails(AuthBenchmarkFixtures.user());
+        token = AuthBenchmarkFixtures.tokenProvider(false, false, false)
+                .createToken(42L, AuthBenchmarkFixtures.EMAIL, userDetails.getRoles());
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return userDetails.getAuthorities();
+    }
+
+    @Benchmark
+    public byte[] serializeLoginResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(Map.of("token", token));
+    }
+
+    @Benchmark
+    public byte[] serializeMeResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(Map.of(
+                "id", userDetails.getId(),
+                "email", userDetails.getEmail(),
+                "userName", userDetails.getUserName(),
+                "roles", userDetails.getRoles()
+        ));
+    }
+}
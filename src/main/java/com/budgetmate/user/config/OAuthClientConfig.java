@@ -0,0 +1,109 @@
+package com.budgetmate.user.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.ObservationExecChainHandler;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import io.micrometer.observation.ObservationRegistry;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+
+// 카카오/구글 OAuth 호출용 HTTP 클라이언트. 요청마다 new RestTemplate() 하던 것을 커넥션 풀로 공유함.
+// -> keep-alive 재사용(TLS 핸드셰이크 생략) + 타임아웃 + route(host)별 커넥션 수 제한.
+// 소셜 로그인은 async 클라이언트(SocialOAuthClient), 구글 JWKS 조회는 googleRestTemplate. 풀/타임아웃 설정은 둘이 같음.
+@Configuration
+public class OAuthClientConfig {
+
+    @Value("${oauth.http.connect-timeout:3s}")
+    private Duration connectTimeout;
+
+    @Value("${oauth.http.read-timeout:5s}")
+    private Duration readTimeout;
+
+    @Value("${oauth.http.max-connections:100}")
+    private int maxConnections;
+
+    @Value("${oauth.http.max-connections-per-route:20}")
+    private int maxConnectionsPerRoute;
+
+    @Value("${oauth.http.idle-timeout:30s}")
+    private Duration idleTimeout;
+
+    // 풀에서 커넥션을 기다리는 최대 시간. route당 커넥션이 모두 사용 중이면 이 시간 뒤 실패.
+    @Value("${oauth.http.connection-request-timeout:3s}")
+    private Duration connectionRequestTimeout;
+
+    // 소셜 로그인용 non-blocking 클라이언트. 응답을 기다리는 동안 스레드를 점유하지 않음.
+    // - 메트릭: httpcomponents.httpclient.request{uri=요청마다 지정한 템플릿, target.host=...} (요청별 지연시간)
+    //           httpcomponents.httpclient.pool.*{httpclient=oauth} (풀 사용량, 대기 수)
+    @Bean(destroyMethod = "close")
+    public CloseableHttpAsyncClient oauthHttpClient(ObservationRegistry observationRegistry, MeterRegistry meterRegistry) {
+        PoolingAsyncClientConnectionManager connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(connectionConfig())
+                .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "oauth").bindTo(meterRegistry);
+
+        CloseableHttpAsyncClient client = HttpAsyncClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig())
+                .addExecInterceptorLast("micrometer", new ObservationExecChainHandler(observationRegistry))
+                .evictIdleConnections(TimeValue.of(idleTimeout))
+                .evictExpiredConnections()
+                .build();
+        client.start();
+        return client;
+    }
+
+    @Bean
+    public RestTemplate googleRestTemplate(RestTemplateBuilder builder) {
+        return builder.requestFactory(() -> new HttpComponentsClientHttpRequestFactory(pooledHttpClient())).build();
+    }
+
+    private CloseableHttpClient pooledHttpClient() {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute) // route = host 단위 (kauth.kakao.com, kapi.kakao.com ...)
+                .setDefaultConnectionConfig(connectionConfig())
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig())
+                .evictIdleConnections(TimeValue.of(idleTimeout))
+                .evictExpiredConnections()
+                .build();
+    }
+
+    private ConnectionConfig connectionConfig() {
+        return ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(connectTimeout))
+                .setSocketTimeout(Timeout.of(readTimeout))
+                .build();
+    }
+
+    private RequestConfig requestConfig() {
+        return RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(connectionRequestTimeout))
+                .setResponseTimeout(Timeout.of(readTimeout))
+                .build();
+    }
+}
@@ -0,0 +1,60 @@
+package com.budgetmate.user.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+// 엔드포인트별 토큰버킷 설정. yml에서 경로 키는 대괄호로 감싸야 함.
+// rate-limit.endpoints.[/user/login].ip.capacity: 20
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // 버킷 최대 개수 + 유휴 버킷 만료 -> 키(IP, 이메일)가 아무리 많아도 메모리는 이 이상 늘지 않음.
+    private long maxBuckets = 100_000;
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    private Map<String, EndpointLimit> endpoints = new HashMap<>(Map.of(
+            "/user/login", new EndpointLimit(new Limit(20, Duration.ofMinutes(1)), new Limit(10, Duration.ofMinutes(1))),
+            "/user/send-code", new EndpointLimit(new Limit(10, Duration.ofMinutes(1)), new Limit(3, Duration.ofMinutes(10))),
+            "/user/verify-code", new EndpointLimit(new Limit(30, Duration.ofMinutes(1)), new Limit(10, Duration.ofMinutes(1)))
+    ));
+
+    @Getter
+    @Setter
+    public static class EndpointLimit {
+        private Limit ip;     // 클라이언트 IP 기준
+        private Limit email;  // 요청 바디의 email 기준
+
+        public EndpointLimit() {
+        }
+
+        public EndpointLimit(Limit ip, Limit email) {
+            this.ip = ip;
+            this.email = email;
+        }
+    }
+
+    // period 동안 capacity 개 허용 (버스트도 capacity 까지)
+    @Getter
+    @Setter
+    public static class Limit {
+        private int capacity;
+        private Duration period;
+
+        public Limit() {
+        }
+
+        public Limit(int capacity, Duration period) {
+            this.capacity = capacity;
+            this.period = period;
+        }
+    }
+}
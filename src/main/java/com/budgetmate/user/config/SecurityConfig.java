@@ -1,7 +1,11 @@
 package com.budgetmate.user.config;
 
+import com.budgetmate.user.security.BCryptCalibrator;
 import com.budgetmate.user.security.JwtAuthenticationFilter;
+import com.budgetmate.user.security.RateLimitFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.Customizer;
@@ -16,14 +20,31 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.time.Duration;
 import java.util.List;
 
 @Configuration	// spring 설정 클래스로 등록.
 @EnableWebSecurity	// spring security 기능 활성화.
+@EnableConfigurationProperties(RateLimitProperties.class)
 @RequiredArgsConstructor	// final 필드 생성자 주입 처리.
 public class SecurityConfig { // spirng security는 기존 필터의 상대적 위치 기반 설정만 허용함. (절대순서 번호 지정 방식은 내부적 허용하지 않음)
 // 앱 부팅 시 한번만 실행. => 어떻게 인증할지 등록하는 것.
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
+
+    @Value("${password.bcrypt.strength:10}")
+    private int bcryptStrength;
+
+    // off: 설정값 그대로, report: 측정 결과만 로그, select: 측정한 strength 사용
+    @Value("${password.bcrypt.calibration:off}")
+    private String bcryptCalibration;
+
+    @Value("${password.bcrypt.target-time:250ms}")
+    private Duration bcryptTargetTime;
+
+    // 측정 시 고를 수 있는 가장 낮은 strength (select 모드에서 설정값보다 낮아질 수 있는 하한)
+    @Value("${password.bcrypt.min-strength:8}")
+    private int bcryptMinStrength;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -48,9 +69,17 @@ public class SecurityConfig { // spirng security는 기존 필터의 상대적 
                                 "/user/send-code", "/user/verify-code",
                                 "/user/oauth/kakao","/user/oauth/google","/user/confirm-social"
                         ).permitAll()
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll() // 헬스체크 (로드밸런서/k8s probe)
+                        .requestMatchers("/actuator/**").hasAnyRole("SERVICE", "ADMIN") // 프로메테우스 스크랩 등 내부 지표는 서비스 토큰 필요
+                        .requestMatchers("/user/.well-known/jwks.json").permitAll() // 토큰 검증용 공개키
+                        .requestMatchers("/user/admin/**").hasRole("ADMIN") // 벌크 import 등 관리자 API
+                        .requestMatchers("/user/internal/**").hasAnyRole("SERVICE", "ADMIN") // 서비스 간 호출 (포인트 적립 등)
                         .anyRequest().authenticated() // 나머지 모든 요청은 jwt 인증 필요.
                 )
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(rateLimitFilter, JwtAuthenticationFilter.class);
+        // rateLimitFilter는 jwtAuthenticationFilter 보다 앞 -> 제한에 걸린 요청은 토큰 검증/서비스(BCrypt, SMTP)까지 가지 않음.
+        // (jwtAuthenticationFilter가 먼저 등록돼 있어야 그 클래스를 기준 위치로 쓸 수 있음)
         // addFilterBefore 에 jwtAuthenticationFilter가 등록됨.
         // jwtAuthenticationFilter를 usernamePasswordAuthenticationFilter 앞에 등록 -> 로그인 필터 전에 jwt를 해석해서 securitycontextHolder에 인증 정보를 세팅해야하기 때문.
         // UsernamePasswordAuthenticationFilter : spring security의 기본 로그인 처리 필터. -> 우리는 usernamePasswordAuthenticationFilter를 사용하진 않지만 적당한 기준 위치를 잡기 위한 것.의미상 위친 기준이지 필터를 활성화 하는건 아님.
@@ -83,7 +112,18 @@ public class SecurityConfig { // spirng security는 기존 필터의 상대적 
     @Bean
     public PasswordEncoder passwordEncoder() { // spring security에서 passwordEncoder 인터페이스 타입으로 BCrypt 구현체를 반환. => 사용자가 입력한 비밀번호를 암호화해서 데이터베이스에 들어있는 암호화된 비밀번호와 비교함.
     	// PasswordEncoder : 인터페이스 : 비밀번호 암호화/검증 전략을 정의.
-        return new BCryptPasswordEncoder(); //가장 널리 사용되는 구현체. 강력한 해시 알고리즘
+        int strength = switch (bcryptCalibration) {
+            case "off" -> bcryptStrength;
+            case "report" -> {
+                BCryptCalibrator.calibrate(bcryptTargetTime, bcryptMinStrength); // 측정 결과는 로그로만
+                yield bcryptStrength;
+            }
+            // strength는 해시 문자열에 같이 저장되므로 바꿔도 기존 비밀번호 검증에는 영향 없음.
+            case "select" -> BCryptCalibrator.calibrate(bcryptTargetTime, bcryptMinStrength);
+            default -> throw new IllegalStateException(
+                    "password.bcrypt.calibration은 off, report, select 중 하나여야 합니다: " + bcryptCalibration);
+        };
+        return new BCryptPasswordEncoder(strength); //가장 널리 사용되는 구현체. 강력한 해시 알고리즘
         // BCrptPasswordEncoder 는 이 PasswordEncoder를 implements 한 클래스. 이미 구현하고 있음
     }
 }
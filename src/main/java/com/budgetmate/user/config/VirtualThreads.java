@@ -0,0 +1,36 @@
+package com.budgetmate.user.config;
+
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// spring.threads.virtual.enabled=true 일 때 직접 만든 executor(메일 발송, 주간 롤오버 청크)도 가상 스레드로 돌리기 위한 헬퍼.
+// 톰캣 요청 스레드/@Scheduled는 Spring Boot가 같은 프로퍼티로 전환함. JDK 21 미만이면 프로퍼티가 켜져 있어도 플랫폼 스레드.
+public final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    public static boolean isAvailable() {
+        return JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE);
+    }
+
+    public static boolean isActive(boolean enabled) {
+        return enabled && isAvailable();
+    }
+
+    // 가상 스레드 모드면 prefix + 번호 이름의 가상 스레드, 아니면 같은 이름의 daemon 플랫폼 스레드
+    public static ThreadFactory threadFactory(String prefix, boolean enabled) {
+        if (isActive(enabled)) {
+            return new VirtualThreadTaskExecutor(prefix).getVirtualThreadFactory();
+        }
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
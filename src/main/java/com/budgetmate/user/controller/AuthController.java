@@ -8,16 +8,23 @@ import com.budgetmate.user.entity.LoginType;
 import com.budgetmate.user.entity.User;
 import com.budgetmate.user.security.CustomUserDetails;
 import com.budgetmate.user.security.JwtTokenProvider;
+import com.budgetmate.user.security.VerifiedToken;
+import com.budgetmate.user.service.AsyncSocialLoginService;
 import com.budgetmate.user.service.EmailService;
+import com.budgetmate.user.service.TokenRevocationService;
 import com.budgetmate.user.service.UserService;
+import com.budgetmate.user.service.VerificationCodeStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 @Slf4j
 @RestController
@@ -28,9 +35,9 @@ public class AuthController {
     private final UserService userService;
     private final EmailService emailService;
     private final JwtTokenProvider jwtTokenProvider;
-
-    private final Map<String, VerificationInfo> verificationCodes = new ConcurrentHashMap<>();
-    private static final long CODE_EXPIRE_TIME = 5 * 60 * 1000;
+    private final VerificationCodeStore verificationCodeStore;
+    private final TokenRevocationService tokenRevocationService;
+    private final AsyncSocialLoginService asyncSocialLoginService;
 
     @PostMapping("/send-code")
     public ResponseEntity<?> sendCode(@RequestBody Map<String, String> request) {
@@ -44,8 +51,14 @@ public class AuthController {
             ));
         }
 
-        String code = emailService.sendVerificationCode(email);
-        verificationCodes.put(email, new VerificationInfo(code));
+        String code = emailService.createVerificationCode();
+        verificationCodeStore.save(email, code);
+        try {
+            emailService.sendVerificationCode(email, code); // 큐에 넣고 바로 반환 (SMTP 전송은 비동기)
+        } catch (RuntimeException e) {
+            verificationCodeStore.remove(email);
+            throw e;
+        }
         return ResponseEntity.ok(Map.of("success", true, "message", "이메일 전송 완료"));
     }
 
@@ -54,22 +67,13 @@ public class AuthController {
         String email = request.get("email");
         String inputCode = request.get("code");
 
-        VerificationInfo info = verificationCodes.get(email);
-        if (info == null) {
-            return ResponseEntity.badRequest().body(Map.of("verified", false, "message", "인증 요청 내역이 없습니다."));
-        }
-
-        if (info.isExpired(CODE_EXPIRE_TIME)) {
-            verificationCodes.remove(email);
-            return ResponseEntity.badRequest().body(Map.of("verified", false, "message", "인증코드가 만료되었습니다."));
-        }
-
-        if (!info.getCode().equals(inputCode)) {
-            return ResponseEntity.badRequest().body(Map.of("verified", false, "message", "인증코드가 일치하지 않습니다."));
-        }
-
-        verificationCodes.remove(email);
-        return ResponseEntity.ok(Map.of("verified", true));
+        return switch (verificationCodeStore.verify(email, inputCode)) {
+            case VERIFIED -> ResponseEntity.ok(Map.of("verified", true));
+            case NOT_FOUND -> ResponseEntity.badRequest().body(Map.of("verified", false, "message", "인증 요청 내역이 없습니다."));
+            case EXPIRED -> ResponseEntity.badRequest().body(Map.of("verified", false, "message", "인증코드가 만료되었습니다."));
+            case MISMATCH -> ResponseEntity.badRequest().body(Map.of("verified", false, "message", "인증코드가 일치하지 않습니다."));
+            case TOO_MANY_ATTEMPTS -> ResponseEntity.badRequest().body(Map.of("verified", false, "message", "인증 시도 횟수를 초과했습니다. 인증코드를 다시 요청해주세요."));
+        };
     }
 
     @PostMapping("/signup")
@@ -97,64 +101,63 @@ public class AuthController {
         return ResponseEntity.ok(Map.of("token", token));
     }
 
-    @GetMapping("/oauth/kakao")
-    public ResponseEntity<?> kakaoLogin(@RequestParam String code) {
-        try {
-            SocialLoginResult result = userService.kakaoLoginAndGetUser(code);
-
-            if (result.isRequiresConsent()) {
-                return ResponseEntity.ok(Map.of(
-                        "requiresConsent", true,
-                        "email", result.getUser().getEmail(),
-                        "userName", result.getUser().getUserName()
-                ));
-            }
+    // 현재 요청의 토큰을 exp까지 거부 (JwtAuthenticationFilter가 검증 결과를 request attribute로 넘겨줌)
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(@RequestAttribute(name = VerifiedToken.REQUEST_ATTRIBUTE) VerifiedToken verified) {
+        boolean revoked = tokenRevocationService.revoke(verified);
+        // jti 도입 전에 발급된 토큰은 revoke 할 수 없음 -> 남은 exp(최대 1시간)까지 유효
+        return ResponseEntity.ok(Map.of("revoked", revoked));
+    }
 
-            String token = jwtTokenProvider.createToken(result.getUser().getId(), result.getUser().getEmail(), result.getUser().getRoles());
-            return ResponseEntity.ok(Map.of(
-                    "accessToken", token,
-                    "email", result.getUser().getEmail(),
-                    "userName", result.getUser().getUserName()
-            ));
-        } catch (Exception e) {
-            log.error("카카오 로그인 처리 중 오류 발생", e);
-            return ResponseEntity.badRequest().body(Map.of("error", "카카오 로그인 실패"));
-        }
+    // 카카오/구글 호출은 non-blocking (AsyncSocialLoginService) -> 응답을 기다리는 동안 서블릿 스레드를 반환함.
+    // CompletableFuture가 끝나면 Spring MVC가 async dispatch로 응답을 씀.
+    @GetMapping("/oauth/kakao")
+    public CompletableFuture<ResponseEntity<?>> kakaoLogin(@RequestParam String code) {
+        return asyncSocialLoginService.kakaoLoginAndGetUserAsync(code)
+                .handle((result, error) -> socialLoginResponse(result, error, "카카오 로그인 실패"));
     }
 
     @GetMapping("/oauth/google")
-    public ResponseEntity<?> googleLogin(@RequestParam String code) {
-        try {
-            SocialLoginResult result = userService.googleLoginAndGetUser(code);
-
-            if (result.isRequiresConsent()) {
-                return ResponseEntity.ok(Map.of(
-                        "requiresConsent", true,
-                        "email", result.getUser().getEmail(),
-                        "userName", result.getUser().getUserName()
-                ));
+    public CompletableFuture<ResponseEntity<?>> googleLogin(@RequestParam String code) {
+        return asyncSocialLoginService.googleLoginAndGetUserAsync(code)
+                .handle((result, error) -> socialLoginResponse(result, error, "구글 로그인 실패"));
+    }
+
+    private ResponseEntity<?> socialLoginResponse(SocialLoginResult result, Throwable error, String failureMessage) {
+        if (error != null) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (cause instanceof RejectedExecutionException) {
+                // DB 단계 executor 대기열이 가득 참
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("error", "요청이 많아 잠시 후 다시 시도해주세요."));
             }
+            log.error(failureMessage, cause);
+            return ResponseEntity.badRequest().body(Map.of("error", failureMessage));
+        }
 
-            String token = jwtTokenProvider.createToken(result.getUser().getId(), result.getUser().getEmail(), result.getUser().getRoles());
+        if (result.isRequiresConsent()) {
             return ResponseEntity.ok(Map.of(
-                    "accessToken", token,
+                    "requiresConsent", true,
                     "email", result.getUser().getEmail(),
                     "userName", result.getUser().getUserName()
             ));
-        } catch (Exception e) {
-            log.error("구글 로그인 실패", e);
-            return ResponseEntity.badRequest().body(Map.of("error", "구글 로그인 실패"));
         }
+
+        String token = jwtTokenProvider.createToken(result.getUser().getId(), result.getUser().getEmail(), result.getUser().getRoles());
+        return ResponseEntity.ok(Map.of(
+                "accessToken", token,
+                "email", result.getUser().getEmail(),
+                "userName", result.getUser().getUserName()
+        ));
     }
 
     @GetMapping("/me")
     public ResponseEntity<?> getMyInfo(@AuthenticationPrincipal CustomUserDetails userDetails) {
-        User user = userDetails.getUser();
+        // principal은 UserRepository.findSummaryByEmail projection(또는 캐시)에서 만들어짐 -> 엔티티 로딩 없음
         return ResponseEntity.ok(Map.of(
-                "id", user.getId(),
-                "email", user.getEmail(),
-                "userName", user.getUserName(),
-                "roles", user.getRoles()
+                "id", userDetails.getId(),
+                "email", userDetails.getEmail(),
+                "userName", userDetails.getUserName(),
+                "roles", userDetails.getRoles()
         ));
     }
     @PostMapping("/confirm-social")
@@ -192,22 +195,4 @@ public class AuthController {
                 "userName", updated.getUserName()
         ));
     }
-
-    private static class VerificationInfo {
-        private final String code;
-        private final long createdAt;
-
-        public VerificationInfo(String code) {
-            this.code = code;
-            this.createdAt = System.currentTimeMillis();
-        }
-
-        public boolean isExpired(long timeoutMillis) {
-            return System.currentTimeMillis() - createdAt > timeoutMillis;
-        }
-
-        public String getCode() {
-            return code;
-        }
-    }
 }
@@ -0,0 +1,37 @@
+package com.budgetmate.user.controller;
+
+import com.budgetmate.user.dto.UserBatchRequest;
+import com.budgetmate.user.service.UserBatchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+// 서비스 간 호출용 (SecurityConfig: /user/internal/** -> ROLE_SERVICE, ROLE_ADMIN)
+@RestController
+@RequestMapping("/user/internal")
+@RequiredArgsConstructor
+public class InternalUserController {
+
+    private final UserBatchService userBatchService;
+
+    // POST /user/internal/users/batch  {"ids":[3,1,2]} 또는 {"emails":["a@b.com"]}
+    // -> 요청 순서대로 {users:[{id,email,userName,badge,point}], missing:[...]}
+    @PostMapping("/users/batch")
+    public ResponseEntity<?> resolveUsers(@RequestBody UserBatchRequest request) {
+        boolean hasIds = request.getIds() != null && !request.getIds().isEmpty();
+        boolean hasEmails = request.getEmails() != null && !request.getEmails().isEmpty();
+        if (hasIds == hasEmails) {
+            return ResponseEntity.badRequest().body(Map.of("error", "ids 또는 emails 중 하나만 보내야 합니다."));
+        }
+        try {
+            UserBatchService.Result result = hasIds
+                    ? userBatchService.resolveByIds(request.getIds())
+                    : userBatchService.resolveByEmails(request.getEmails());
+            return ResponseEntity.ok(Map.of("users", result.users(), "missing", result.missing()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.budgetmate.user.controller;
+
+import com.budgetmate.user.security.JwtSigningKeys;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+// 토큰 검증용 공개키 (JWK Set). 게이트웨이/다른 서비스가 JwksTokenVerifier로 읽어서 캐시함.
+// HS256 모드면 빈 키셋.
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    private final JwtSigningKeys jwtSigningKeys;
+
+    @GetMapping(value = "/user/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<String> jwks() {
+        // 짧게 캐시 -> 로테이션으로 추가된 키는 verifier가 모르는 kid를 만나면 바로 다시 읽음
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .body(jwtSigningKeys.current().jwks());
+    }
+}
@@ -0,0 +1,66 @@
+package com.budgetmate.user.controller;
+
+import com.budgetmate.user.security.CustomUserDetails;
+import com.budgetmate.user.service.LeaderboardService;
+import com.budgetmate.user.service.RankingIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/user/leaderboard")
+@RequiredArgsConstructor
+public class LeaderboardController {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_RADIUS = 50;
+
+    private final LeaderboardService leaderboardService;
+
+    // GET /user/leaderboard?type=point&page=0&size=20  (type: point | week)
+    @GetMapping
+    public ResponseEntity<?> top(@RequestParam(defaultValue = "point") String type,
+                                 @RequestParam(defaultValue = "0") int page,
+                                 @RequestParam(defaultValue = "20") int size) {
+        LeaderboardService.Type boardType = parseType(type);
+        if (boardType == null || page < 0 || size < 1) {
+            return ResponseEntity.badRequest().body(Map.of("error", "잘못된 요청입니다."));
+        }
+        int limit = Math.min(size, MAX_PAGE_SIZE);
+        List<RankingIndex.Entry> entries = leaderboardService.top(boardType, (long) page * limit, limit);
+        return ResponseEntity.ok(Map.of("type", type, "page", page, "size", limit, "entries", entries));
+    }
+
+    // 내 순위 + 앞뒤 radius명
+    @GetMapping("/me")
+    public ResponseEntity<?> me(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                @RequestParam(defaultValue = "point") String type,
+                                @RequestParam(defaultValue = "5") int radius) {
+        LeaderboardService.Type boardType = parseType(type);
+        if (boardType == null || radius < 0) {
+            return ResponseEntity.badRequest().body(Map.of("error", "잘못된 요청입니다."));
+        }
+        Optional<RankingIndex.Entry> mine = leaderboardService.rankOf(boardType, userDetails.getId());
+        if (mine.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(Map.of(
+                "type", type,
+                "me", mine.get(),
+                "around", leaderboardService.around(boardType, userDetails.getId(), Math.min(radius, MAX_RADIUS))
+        ));
+    }
+
+    private static LeaderboardService.Type parseType(String type) {
+        return switch (type.toLowerCase()) {
+            case "point" -> LeaderboardService.Type.POINT;
+            case "week" -> LeaderboardService.Type.WEEK;
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,60 @@
+package com.budgetmate.user.controller;
+
+import com.budgetmate.user.dto.PointAccrualRequest;
+import com.budgetmate.user.security.CustomUserDetails;
+import com.budgetmate.user.service.PointAccrualService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/user")
+@RequiredArgsConstructor
+public class PointController {
+
+    private final PointAccrualService pointAccrualService;
+
+    // 다른 서비스의 포인트 적립 (여러 건을 한번에). 메모리에 누적 후 비동기로 DB 반영 -> 202
+    @PostMapping("/internal/points")
+    public ResponseEntity<?> accrue(@RequestBody List<PointAccrualRequest> requests) {
+        for (PointAccrualRequest request : requests) {
+            if (request.getUserId() == null) {
+                return ResponseEntity.badRequest().body(Map.of("error", "userId가 필요합니다."));
+            }
+            if (!pointAccrualService.isValidDelta(request.getDelta())) {
+                return ResponseEntity.badRequest().body(Map.of("error",
+                        "delta는 1 이상 " + pointAccrualService.maxDelta() + " 이하여야 합니다.", "userId", request.getUserId()));
+            }
+        }
+        if (!pointAccrualService.hasCapacity()) {
+            // 미반영분이 가득 참 -> flush가 따라잡을 때까지 호출 측이 재시도
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(Map.of("error", "적립 요청이 많아 잠시 후 다시 시도해주세요."));
+        }
+        for (PointAccrualRequest request : requests) {
+            pointAccrualService.accrue(request.getUserId(), request.getDelta());
+        }
+        return ResponseEntity.accepted().body(Map.of("accepted", requests.size()));
+    }
+
+    @GetMapping("/internal/points/{userId}")
+    public ResponseEntity<?> getPoints(@PathVariable long userId) {
+        try {
+            return ResponseEntity.ok(Map.of("userId", userId, "point", pointAccrualService.currentPoints(userId)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @GetMapping("/points/me")
+    public ResponseEntity<?> getMyPoints(@AuthenticationPrincipal CustomUserDetails userDetails) {
+        return ResponseEntity.ok(Map.of("point", pointAccrualService.currentPoints(userDetails.getId())));
+    }
+}
@@ -0,0 +1,37 @@
+package com.budgetmate.user.controller;
+
+import com.budgetmate.user.service.UserExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.time.Instant;
+
+// 관리자 전용 사용자 덤프 (SecurityConfig에서 /user/admin/** -> ROLE_ADMIN)
+// curl -H 'Authorization: Bearer ...' '.../user/admin/export?updatedSince=2025-01-01T00:00:00Z' > users.ndjson
+@Slf4j
+@RestController
+@RequestMapping("/user/admin")
+@RequiredArgsConstructor
+public class UserExportController {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final UserExportService userExportService;
+
+    // 요청 스레드에서 응답 스트림에 바로 씀 (StreamingResponseBody는 async 타임아웃에 걸려서 대용량 덤프에 안 맞음)
+    @GetMapping(value = "/export", produces = NDJSON)
+    public void export(@RequestParam(defaultValue = "0") long afterId,
+                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdSince,
+                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant updatedSince,
+                       HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding("UTF-8");
+        userExportService.export(
+                new UserExportService.Filter(afterId, createdSince, updatedSince),
+                response.getOutputStream());
+    }
+}
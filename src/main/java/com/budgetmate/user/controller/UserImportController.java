@@ -0,0 +1,37 @@
+package com.budgetmate.user.controller;
+
+import com.budgetmate.user.dto.UserImportReport;
+import com.budgetmate.user.service.UserImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+// 관리자 전용 벌크 import (SecurityConfig에서 /user/admin/** -> ROLE_ADMIN)
+// curl -X POST -H 'Content-Type: application/x-ndjson' --data-binary @users.ndjson .../user/admin/import
+@Slf4j
+@RestController
+@RequestMapping("/user/admin")
+@RequiredArgsConstructor
+public class UserImportController {
+
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String CSV = "text/csv";
+
+    private final UserImportService userImportService;
+
+    // 요청 바디를 @RequestBody로 받지 않고 InputStream 그대로 넘김 -> 전체를 메모리에 올리지 않음.
+    @PostMapping(value = "/import", consumes = {NDJSON, CSV})
+    public ResponseEntity<UserImportReport> importUsers(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                        InputStream body) throws IOException {
+        UserImportService.Format format = contentType.isCompatibleWith(MediaType.parseMediaType(CSV))
+                ? UserImportService.Format.CSV
+                : UserImportService.Format.NDJSON;
+        return ResponseEntity.ok(userImportService.importUsers(body, format));
+    }
+}
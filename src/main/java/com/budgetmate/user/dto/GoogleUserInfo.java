@@ -3,10 +3,21 @@ package com.budgetmate.user.dto;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.Map;
+
 @Getter
 @Builder
 public class GoogleUserInfo {
     private String id;
     private String email;
     private String name;
+
+    // /oauth2/v2/userinfo 응답 본문에서 생성 (동기 RestTemplate / 비동기 HttpClient 공용)
+    public static GoogleUserInfo from(Map<String, Object> body) {
+        return GoogleUserInfo.builder()
+                .id((String) body.get("id"))
+                .email((String) body.get("email"))
+                .name((String) body.get("name"))
+                .build();
+    }
 }
@@ -3,10 +3,25 @@ package com.budgetmate.user.dto;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.Map;
+
 @Getter
 @Builder
 public class KakaoUserInfo {
     private String id;       // 카카오 고유 ID
     private String email;    // 이메일
     private String nickname; // 프로필 닉네임
+
+    // /v2/user/me 응답 본문에서 생성 (동기 RestTemplate / 비동기 HttpClient 공용)
+    @SuppressWarnings("unchecked")
+    public static KakaoUserInfo from(Map<String, Object> body) {
+        Map<String, Object> kakaoAccount = (Map<String, Object>) body.get("kakao_account");
+        Map<String, Object> profile = (Map<String, Object>) kakaoAccount.get("profile");
+
+        return KakaoUserInfo.builder()
+                .id(String.valueOf(body.get("id")))
+                .email((String) kakaoAccount.get("email"))
+                .nickname((String) profile.get("nickname"))
+                .build();
+    }
 }
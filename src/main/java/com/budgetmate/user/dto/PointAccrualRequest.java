@@ -0,0 +1,13 @@
+package com.budgetmate.user.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class PointAccrualRequest {
+    private Long userId;
+    private long delta;
+}
@@ -0,0 +1,16 @@
+package com.budgetmate.user.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+// ids 또는 emails 중 하나만
+@Getter
+@Setter
+@NoArgsConstructor
+public class UserBatchRequest {
+    private List<Long> ids;
+    private List<String> emails;
+}
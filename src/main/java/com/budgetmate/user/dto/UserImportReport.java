@@ -0,0 +1,28 @@
+package com.budgetmate.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class UserImportReport {
+    private final long total;
+    private final long inserted;
+    private final long duplicates;
+    private final long failed;
+    private final long elapsedMillis;
+    private final List<RowError> errors;   // import.max-reported-errors 개까지만
+    private final boolean errorsTruncated;
+
+    @Getter
+    @AllArgsConstructor
+    public static class RowError {
+        private final long line;
+        private final String email;
+        private final String reason;
+    }
+}
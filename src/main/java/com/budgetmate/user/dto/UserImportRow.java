@@ -0,0 +1,23 @@
+package com.budgetmate.user.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+// 벌크 import 한 행. password는 이미 BCrypt로 해시된 값($2a$/$2b$/$2y$)만 받음 -> import 중에는 해시 연산 없음.
+// 소셜 계정(loginType KAKAO/GOOGLE)은 password 없이 socialId만 있어도 됨.
+@Getter
+@Setter
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class UserImportRow {
+    private String email;
+    private String password;
+    private String userName;
+    private String loginType;
+    private String socialId;
+    private List<String> roles;
+}
@@ -0,0 +1,19 @@
+package com.budgetmate.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 다른 서비스에 내려주는 사용자 표시용 정보 (UserRepository.findProfilesBy*In projection)
+@Getter
+@AllArgsConstructor
+public class UserProfile {
+    private final Long id;
+    private final String email;
+    private final String userName;
+    private final int badge;
+    private final long point;
+
+    public UserProfile withPoint(long point) {
+        return new UserProfile(id, email, userName, badge, point);
+    }
+}
@@ -0,0 +1,17 @@
+package com.budgetmate.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// /user/me 와 principal 로딩에 필요한 컬럼만 담는 읽기 전용 projection (UserRepository.findSummaryByEmail).
+// 엔티티가 아니므로 영속성 컨텍스트/dirty checking 대상이 아님.
+@Getter
+@AllArgsConstructor
+public class UserSummary {
+    private final Long id;
+    private final String email;
+    private final String userName;
+    private final List<String> roles;
+}
@@ -0,0 +1,99 @@
+package com.budgetmate.user.entity;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// 권한 목록을 user.role_mask 비트마스크 하나로 저장 (RoleMaskConverter).
+// 비트 위치는 DB에 저장되는 값이므로 절대 바꾸지 말 것 -> 새 권한은 다음 비트로 추가.
+// 조합별 역할 이름 리스트 / GrantedAuthority 리스트는 클래스 로딩 때 한번만 만들어서 공유 (불변).
+public enum Role {
+    USER("ROLE_USER", 0),
+    ADMIN("ROLE_ADMIN", 1),
+    SERVICE("ROLE_SERVICE", 2); // 다른 BudgetMate 서비스가 쓰는 서비스 계정 (/user/internal/**)
+
+    private static final Role[] VALUES = values();
+    private static final int COMBINATIONS = 1 << VALUES.length;
+    private static final List<String>[] NAMES;
+    private static final List<GrantedAuthority>[] AUTHORITIES;
+
+    static {
+        @SuppressWarnings("unchecked") List<String>[] names = new List[COMBINATIONS];
+        @SuppressWarnings("unchecked") List<GrantedAuthority>[] authorities = new List[COMBINATIONS];
+        for (int mask = 0; mask < COMBINATIONS; mask++) {
+            List<String> roleNames = new ArrayList<>();
+            List<GrantedAuthority> grantedAuthorities = new ArrayList<>();
+            for (Role role : VALUES) {
+                if ((mask & role.bit) != 0) {
+                    roleNames.add(role.authority);
+                    grantedAuthorities.add(new SimpleGrantedAuthority(role.authority));
+                }
+            }
+            names[mask] = List.copyOf(roleNames);
+            authorities[mask] = List.copyOf(grantedAuthorities);
+        }
+        NAMES = names;
+        AUTHORITIES = authorities;
+    }
+
+    private final String authority;
+    private final int bit;
+
+    Role(String authority, int position) {
+        this.authority = authority;
+        this.bit = 1 << position;
+    }
+
+    public String getAuthority() {
+        return authority;
+    }
+
+    public int getBit() {
+        return bit;
+    }
+
+    // 모르는 이름이면 null
+    public static Role fromAuthority(String authority) {
+        for (Role role : VALUES) {
+            if (role.authority.equals(authority)) {
+                return role;
+            }
+        }
+        return null;
+    }
+
+    public static int mask(Collection<String> roles) {
+        int mask = 0;
+        if (roles == null) {
+            return mask;
+        }
+        for (String name : roles) {
+            Role role = fromAuthority(name);
+            if (role == null) {
+                throw new IllegalArgumentException("알 수 없는 권한입니다: " + name);
+            }
+            mask |= role.bit;
+        }
+        return mask;
+    }
+
+    public static List<String> names(int mask) {
+        return NAMES[mask & (COMBINATIONS - 1)];
+    }
+
+    public static List<GrantedAuthority> authorities(int mask) {
+        return AUTHORITIES[mask & (COMBINATIONS - 1)];
+    }
+
+    public static List<GrantedAuthority> authorities(Collection<String> roles) {
+        return authorities(mask(roles));
+    }
+
+    // 같은 조합이면 항상 같은 불변 리스트 인스턴스를 돌려줌
+    public static List<String> intern(Collection<String> roles) {
+        return names(mask(roles));
+    }
+}
@@ -0,0 +1,21 @@
+package com.budgetmate.user.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.List;
+
+// User.roles(List<String>) <-> user.role_mask(int). 읽을 때는 Role.names()의 공유 불변 리스트를 그대로 돌려줌.
+@Converter
+public class RoleMaskConverter implements AttributeConverter<List<String>, Integer> {
+
+    @Override
+    public Integer convertToDatabaseColumn(List<String> roles) {
+        return Role.mask(roles);
+    }
+
+    @Override
+    public List<String> convertToEntityAttribute(Integer mask) {
+        return Role.names(mask == null ? 0 : mask);
+    }
+}
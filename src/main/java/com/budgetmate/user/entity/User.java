@@ -3,13 +3,16 @@ package com.budgetmate.user.entity;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.*;
 
 @Entity
+@Table(indexes = @Index(name = "idx_user_updated_at", columnList = "updated_at")) // 증분 export (updatedSince)
+@DynamicUpdate // 변경된 컬럼만 UPDATE -> 엔티티 저장이 롤오버/포인트 집계가 바꾼 lastWeek, currentWeek, point를 덮어쓰지 않음
 @Getter
 @Setter
 @NoArgsConstructor
@@ -29,11 +32,12 @@ public class User implements UserDetails {
 
     private String userName;
 
-    @ElementCollection(fetch = FetchType.EAGER) // 엔티티 자체가 아니라 문자열, 정수 등의 값 객체 리스트를 하나의 테이블로 저장.
-    // @ElementCollection() : JPA가 List<String>을 별도 테이블로 관리하게 함.
-    // fetch = FetchType.EAGER : User조회시 roles도 즉시 함께 로딩.
+    @Convert(converter = RoleMaskConverter.class) // 권한 목록을 user 행의 비트마스크 컬럼 하나로 저장 (별도 테이블 join X)
+    @Column(name = "role_mask", nullable = false)
+    // 기존 user_roles 테이블 데이터는 시작 시 RoleMaskMigration이 옮김.
+    // 읽어온 리스트는 Role이 공유하는 불변 리스트 -> 변경하려면 setRoles로 새 리스트를 넣을 것.
     @Builder.Default
-    private List<String> roles = new ArrayList<>(List.of("ROLE_USER"));
+    private List<String> roles = Role.names(Role.USER.getBit());
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -52,6 +56,12 @@ public class User implements UserDetails {
     @Builder.Default
     private int point = 0;
 
+    // 마지막으로 적용된 주간 롤오버의 주차 (WeeklyRolloverService). 이 값보다 큰 주차만 다시 적용됨.
+    @Column(name = "rollover_week", nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private int rolloverWeek = 0;
+
     @Column(updatable = false) // JPA가 createAt 필드를 수정하지 않도록 설정.
     @Temporal(TemporalType.TIMESTAMP) // Date 타입을 DB의 timestamp로 매핑(날짜 + 시간 포함)
     private Date createdAt; // 각각 생성시간
@@ -66,7 +76,7 @@ public class User implements UserDetails {
     // Spring Security 필수 메서드 구현
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return roles.stream().map(SimpleGrantedAuthority::new).toList();
+        return Role.authorities(roles);
     }
 
     @Override public String getUsername() { return email; }
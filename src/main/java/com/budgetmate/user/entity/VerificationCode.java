@@ -0,0 +1,29 @@
+package com.budgetmate.user.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.Date;
+
+// 여러 user-service 인스턴스가 인증코드를 공유할 때 사용하는 테이블 (verification.store=jpa)
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VerificationCode {
+
+    @Id
+    private String email;
+
+    @Column(nullable = false)
+    private String code;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(nullable = false)
+    private Date expiresAt;
+
+    @Builder.Default
+    private int attempts = 0;
+}
@@ -0,0 +1,41 @@
+package com.budgetmate.user.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.Date;
+
+// 주간 롤오버 진행 상태 (주차당 한 행). 여러 인스턴스 중 이 행을 먼저 insert한 쪽이 실행하고,
+// lease가 끝난 RUNNING 행은 다른 인스턴스가 이어받음. 실제 갱신은 WeeklyRolloverService가 JdbcTemplate로 처리.
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WeeklyRollover {
+
+    public enum Status { RUNNING, COMPLETED }
+
+    @Id
+    private Integer weekId; // ISO 주차 (예: 202542)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status;
+
+    private String owner;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date leaseUntil;
+
+    private Long maxUserId; // 시작 시점의 max(id) -> 이어받아도 같은 범위만 처리
+
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date startedAt;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date completedAt;
+
+    private long rowsUpdated;
+}
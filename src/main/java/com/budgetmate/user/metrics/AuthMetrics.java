@@ -0,0 +1,57 @@
+package com.budgetmate.user.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// 인증 흐름 단계별 타이머/카운터.
+// auth.stage{operation, stage, provider, outcome} : 단계별 소요시간 (percentile histogram -> /actuator/prometheus 에서 histogram_quantile)
+//   operation : login, signup, social_login, token, jwt_filter
+//   provider  : local, kakao, google, jwt
+// auth.login{provider, outcome} : 로그인 결과 카운트
+@Component
+public class AuthMetrics {
+
+    public static final String SUCCESS = "success";
+    public static final String FAILURE = "failure";
+
+    private final Meter.MeterProvider<Timer> stageTimers;
+    private final Meter.MeterProvider<Counter> loginCounters;
+
+    public AuthMetrics(MeterRegistry meterRegistry) {
+        this.stageTimers = Timer.builder("auth.stage")
+                .description("인증 흐름 단계별 소요 시간")
+                .publishPercentileHistogram()
+                .withRegistry(meterRegistry);
+        this.loginCounters = Counter.builder("auth.login")
+                .description("로그인 결과")
+                .withRegistry(meterRegistry);
+    }
+
+    // action 실행 시간을 기록. 예외가 나면 outcome=failure 로 기록하고 그대로 던짐.
+    public <T> T record(String operation, String stage, String provider, Supplier<T> action) {
+        long start = System.nanoTime();
+        String outcome = FAILURE;
+        try {
+            T result = action.get();
+            outcome = SUCCESS;
+            return result;
+        } finally {
+            record(operation, stage, provider, outcome, System.nanoTime() - start);
+        }
+    }
+
+    public void record(String operation, String stage, String provider, String outcome, long elapsedNanos) {
+        stageTimers.withTags("operation", operation, "stage", stage, "provider", provider, "outcome", outcome)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void countLogin(String provider, String outcome) {
+        loginCounters.withTags("provider", provider, "outcome", outcome).increment();
+    }
+}
@@ -0,0 +1,29 @@
+package com.budgetmate.user.repository;
+
+import com.budgetmate.user.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Date;
+import java.util.List;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    boolean existsByJtiAndExpiresAtAfter(String jti, Date now);
+
+    // Bloom filter 재구성용 - 아직 만료되지 않은 jti만
+    @Query("select r.jti from RevokedToken r where r.expiresAt > :now")
+    List<String> findActiveJtis(@Param("now") Date now);
+
+    // 다른 인스턴스에서 revoke된 jti를 주기적으로 가져옴
+    @Query("select r.jti from RevokedToken r where r.revokedAt >= :since and r.expiresAt > :now")
+    List<String> findJtisRevokedSince(@Param("since") Date since, @Param("now") Date now);
+
+    @Modifying
+    @Transactional
+    @Query("delete from RevokedToken r where r.expiresAt < :before")
+    int deleteExpired(@Param("before") Date before);
+}
@@ -1,9 +1,15 @@
 package com.budgetmate.user.repository;
 
+import com.budgetmate.user.dto.UserProfile;
+import com.budgetmate.user.dto.UserSummary;
 import com.budgetmate.user.entity.LoginType;
 import com.budgetmate.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -11,5 +17,19 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
     // 소셜 로그인용 조회
     Optional<User> findBySocialIdAndLoginType(String socialId, LoginType loginType);
+
+    // principal 로딩 / /user/me 용: 필요한 4개 컬럼만 DTO로 조회 (엔티티 로딩 X, 읽기 전용 트랜잭션)
+    @Transactional(readOnly = true)
+    @Query("select new com.budgetmate.user.dto.UserSummary(u.id, u.email, u.userName, u.roles) from User u where u.email = :email")
+    Optional<UserSummary> findSummaryByEmail(String email);
+
+    // 다른 서비스용 일괄 조회 (UserBatchService가 청크 단위로 호출). 결과 순서는 보장되지 않음.
+    @Transactional(readOnly = true)
+    @Query("select new com.budgetmate.user.dto.UserProfile(u.id, u.email, u.userName, u.userBadge, u.point) from User u where u.id in :ids")
+    List<UserProfile> findProfilesByIdIn(Collection<Long> ids);
+
+    @Transactional(readOnly = true)
+    @Query("select new com.budgetmate.user.dto.UserProfile(u.id, u.email, u.userName, u.userBadge, u.point) from User u where u.email in :emails")
+    List<UserProfile> findProfilesByEmailIn(Collection<String> emails);
 }
 
@@ -0,0 +1,21 @@
+package com.budgetmate.user.repository;
+
+import com.budgetmate.user.entity.VerificationCode;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Date;
+
+public interface VerificationCodeRepository extends JpaRepository<VerificationCode, String> {
+
+    // 시도 횟수는 DB에서 원자적으로 증가 (인스턴스끼리 동시에 검증해도 횟수가 빠지지 않음)
+    @Modifying
+    @Query("update VerificationCode v set v.attempts = v.attempts + 1 where v.email = :email")
+    int incrementAttempts(@Param("email") String email);
+
+    @Modifying
+    @Query("delete from VerificationCode v where v.expiresAt < :before")
+    int deleteExpired(@Param("before") Date before);
+}
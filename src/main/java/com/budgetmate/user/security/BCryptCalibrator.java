@@ -0,0 +1,44 @@
+package com.budgetmate.user.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import java.time.Duration;
+
+// 이 호스트에서 strength별 BCrypt 해시 시간을 재서 목표 시간 안에 들어오는 가장 높은 strength를 찾음.
+// 하한(minStrength)부터 올라가며 잼 -> 느린 호스트에서는 설정한 strength보다 낮게 나올 수 있음 (하한 아래로는 안 내려감).
+// strength가 1 오를 때마다 시간은 2배 -> 목표를 넘으면 바로 멈춤.
+@Slf4j
+public final class BCryptCalibrator {
+
+    private static final int MIN_STRENGTH = 4;
+    private static final int MAX_STRENGTH = 31;
+
+    private BCryptCalibrator() {
+    }
+
+    public static int calibrate(Duration target, int minStrength) {
+        String salt = BCrypt.gensalt(4);
+        BCrypt.hashpw("warm-up", salt); // JIT 워밍업
+
+        int floor = Math.max(MIN_STRENGTH, minStrength);
+        int selected = floor;
+        for (int strength = floor; strength <= MAX_STRENGTH; strength++) {
+            long elapsedNanos = measure(strength);
+            log.info("[BCryptCalibrator] strength {} → {} ms", strength, elapsedNanos / 1_000_000);
+            if (elapsedNanos > target.toNanos()) {
+                break;
+            }
+            selected = strength;
+        }
+        log.info("[BCryptCalibrator] 목표 {} ms 기준 strength {} (최소 {})", target.toMillis(), selected, minStrength);
+        return selected;
+    }
+
+    private static long measure(int strength) {
+        String salt = BCrypt.gensalt(strength);
+        long start = System.nanoTime();
+        BCrypt.hashpw("calibration-password", salt);
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,108 @@
+package com.budgetmate.user.security;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import lombok.extern.slf4j.Slf4j;
+
+import java.security.Key;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+// JwkSetSource에서 읽은 키셋을 메모리에 들고 있다가 JWS 헤더의 kid로 검증키를 찾아주는 jjwt Locator.
+// refreshInterval마다 다시 읽고, 모르는 kid가 오면(키 로테이션) minRefreshInterval 간격 안에서 한번 더 읽음.
+@Slf4j
+public class CachedJwkSet extends LocatorAdapter<Key> {
+
+    private final JwkSetSource source;
+    private final Duration refreshInterval;
+    private final Duration minRefreshInterval;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    public CachedJwkSet(JwkSetSource source, Duration refreshInterval, Duration minRefreshInterval) {
+        this.source = source;
+        this.refreshInterval = refreshInterval;
+        this.minRefreshInterval = minRefreshInterval;
+    }
+
+    @Override
+    protected Key locate(JwsHeader header) {
+        String kid = header.getKeyId();
+        Snapshot current = current();
+        Key key = current.keys.get(kid);
+        if (key == null && current.olderThan(minRefreshInterval)) {
+            key = refresh(current).keys.get(kid);
+        }
+        return key; // null 이면 jjwt가 서명 검증 실패로 처리함
+    }
+
+    public Map<String, Key> keys() {
+        return current().keys;
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return refresh(null);
+        }
+        if (current.olderThan(refreshInterval) && refreshLock.tryLock()) {
+            // 주기 갱신은 한 스레드만. 나머지 스레드는 기존 키셋으로 계속 검증함.
+            try {
+                return reload(current);
+            } finally {
+                refreshLock.unlock();
+            }
+        }
+        return current;
+    }
+
+    private Snapshot refresh(Snapshot seen) {
+        refreshLock.lock();
+        try {
+            Snapshot current = snapshot;
+            if (current != null && current != seen) {
+                return current; // 기다리는 동안 다른 스레드가 이미 갱신함
+            }
+            return reload(current);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private Snapshot reload(Snapshot previous) {
+        try {
+            JwkSet jwkSet = Jwks.setParser().build().parse(source.load());
+            Map<String, Key> keys = new HashMap<>();
+            for (Jwk<?> jwk : jwkSet.getKeys()) {
+                keys.put(jwk.getId(), jwk.toKey());
+            }
+            Snapshot loaded = new Snapshot(Map.copyOf(keys), Instant.now());
+            this.snapshot = loaded;
+            log.debug("[CachedJwkSet] 키셋 갱신 완료 - kid: {}", keys.keySet());
+            return loaded;
+        } catch (RuntimeException e) {
+            if (previous == null) {
+                throw e;
+            }
+            // 갱신 실패 시 기존 키셋 유지 (다음 minRefreshInterval 이후 재시도)
+            log.warn("[CachedJwkSet] 키셋 갱신 실패, 기존 키 사용: {}", e.getMessage());
+            Snapshot retained = new Snapshot(previous.keys, Instant.now().minus(refreshInterval).plus(minRefreshInterval));
+            this.snapshot = retained;
+            return retained;
+        }
+    }
+
+    private record Snapshot(Map<String, Key> keys, Instant loadedAt) {
+
+        boolean olderThan(Duration age) {
+            return loadedAt.plus(age).isBefore(Instant.now());
+        }
+    }
+}
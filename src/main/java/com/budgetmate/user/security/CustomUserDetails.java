@@ -1,38 +1,53 @@
 package com.budgetmate.user.security;
 
+import com.budgetmate.user.dto.UserSummary;
+import com.budgetmate.user.entity.Role;
 import com.budgetmate.user.entity.User;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
-import java.util.stream.Collectors;
+import java.util.List;
 
+// SecurityContext에 올라가는 principal. 엔티티 대신 필요한 값만 들고 있음 (id, email, userName, roles).
+// 로그인은 UserService가 직접 비밀번호를 확인하므로 principal에는 비밀번호 해시를 담지 않음.
 @Getter
 public class CustomUserDetails implements UserDetails {
 
-    private final User user;
+    private final Long id;
+    private final String email;
+    private final String userName;
+    private final List<String> roles;
+
+    public CustomUserDetails(Long id, String email, String userName, List<String> roles) {
+        this.id = id;
+        this.email = email;
+        this.userName = userName;
+        this.roles = Role.intern(roles);
+    }
 
     public CustomUserDetails(User user) {
-        this.user = user;
+        this(user.getId(), user.getEmail(), user.getUserName(), user.getRoles());
+    }
+
+    public CustomUserDetails(UserSummary summary) {
+        this(summary.getId(), summary.getEmail(), summary.getUserName(), summary.getRoles());
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return user.getRoles().stream()
-                .map(SimpleGrantedAuthority::new)
-                .collect(Collectors.toList());
+        return Role.authorities(roles); // 같은 권한 조합이면 같은 불변 리스트를 공유
     }
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return null;
     }
 
     @Override
     public String getUsername() {
-        return user.getEmail(); // 로그인 ID가 email
+        return email; // 로그인 ID가 email
     }
 
     @Override
@@ -47,12 +62,8 @@ public class CustomUserDetails implements UserDetails {
     @Override
     public boolean isEnabled() { return true; }
 
-    // 사용자 정보 쉽게 꺼내 쓰도록 추가 getter
-    public Long getId() {
-        return user.getId();
-    }
-
+    // getUsername()과 이름이 겹쳐서 lombok이 만들어주지 않음
     public String getUserName() {
-        return user.getUserName();
+        return userName;
     }
 }
@@ -0,0 +1,85 @@
+package com.budgetmate.user.security;
+
+import com.budgetmate.user.dto.GoogleUserInfo;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.IncorrectClaimException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+
+// 구글 토큰 교환 응답의 id_token을 로컬에서 검증 -> userinfo API 호출 없이 id/email/name을 얻음.
+// 서명키는 구글 JWKS를 메모리에 캐시해서 사용 (CachedJwkSet).
+@Component
+@RequiredArgsConstructor
+public class GoogleIdTokenVerifier {
+
+    @Qualifier("googleRestTemplate")
+    private final RestTemplate googleRestTemplate;
+    private final ResourceLoader resourceLoader;
+
+    @Value("${google.client-id}")
+    private String googleClientId;
+
+    // http(s) 주소면 googleRestTemplate으로, 그 외(file:, classpath:)는 리소스로 읽음.
+    @Value("${google.jwks-uri:https://www.googleapis.com/oauth2/v3/certs}")
+    private String jwksUri;
+
+    @Value("${google.jwks-refresh-interval:1h}")
+    private Duration jwksRefreshInterval;
+
+    @Value("${google.jwks-min-refresh-interval:1m}")
+    private Duration jwksMinRefreshInterval;
+
+    private static final Set<String> ISSUERS = Set.of("https://accounts.google.com", "accounts.google.com");
+
+    private JwtParser parser;
+
+    @PostConstruct
+    protected void init() {
+        CachedJwkSet jwkSet = new CachedJwkSet(this::loadJwks, jwksRefreshInterval, jwksMinRefreshInterval);
+        this.parser = Jwts.parser()
+                .keyLocator(jwkSet)
+                .requireAudience(googleClientId)
+                .clockSkewSeconds(60)
+                .build();
+    }
+
+    // 서명, exp, aud, iss를 검증하고 사용자 정보를 꺼냄. 검증 실패 시 JwtException.
+    public GoogleUserInfo verify(String idToken) {
+        Claims claims = parser.parseSignedClaims(idToken).getPayload();
+        if (!ISSUERS.contains(claims.getIssuer())) {
+            throw new IncorrectClaimException(null, claims, "iss", claims.getIssuer(), "구글 id_token 발급자가 아닙니다: " + claims.getIssuer());
+        }
+
+        return GoogleUserInfo.builder()
+                .id(claims.getSubject())
+                .email(claims.get("email", String.class))
+                .name(claims.get("name", String.class))
+                .build();
+    }
+
+    private String loadJwks() {
+        if (jwksUri.startsWith("http://") || jwksUri.startsWith("https://")) {
+            return googleRestTemplate.getForObject(jwksUri, String.class);
+        }
+        try (InputStream in = resourceLoader.getResource(jwksUri).getInputStream()) {
+            return StreamUtils.copyToString(in, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("JWKS를 읽을 수 없습니다: " + jwksUri, e);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.budgetmate.user.security;
+
+// JWKS(JSON Web Key Set) 원문을 가져오는 곳. 운영은 provider의 certs URL, 테스트는 로컬 파일/stub 서버.
+@FunctionalInterface
+public interface JwkSetSource {
+
+    String load();
+}
@@ -0,0 +1,28 @@
+package com.budgetmate.user.security;
+
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+
+import java.time.Duration;
+
+// user-service가 발급한 RS256/EdDSA 토큰을 공개키만으로 검증하는 재사용용 verifier (스프링 의존 없음).
+// 게이트웨이/다른 서비스에서 user-service의 /user/.well-known/jwks.json을 JwkSetSource로 넘겨서 사용:
+//   new JwksTokenVerifier(() -> restTemplate.getForObject(jwksUrl, String.class), Duration.ofMinutes(10), Duration.ofSeconds(30))
+// 키셋은 CachedJwkSet이 메모리에 들고 있다가 모르는 kid(로테이션)가 오면 다시 읽음 -> 요청마다 user-service 호출 없음.
+// 로그아웃(revoke) 여부는 확인하지 않음 (user-service 필터에서만 확인).
+public class JwksTokenVerifier {
+
+    private final JwtParser parser;
+
+    public JwksTokenVerifier(JwkSetSource source, Duration refreshInterval, Duration minRefreshInterval) {
+        this.parser = Jwts.parser()
+                .keyLocator(new CachedJwkSet(source, refreshInterval, minRefreshInterval))
+                .clockSkewSeconds(30)
+                .build();
+    }
+
+    // 서명 + exp 검증 후 클레임 반환. 실패 시 JwtException.
+    public VerifiedToken verify(String token) {
+        return VerifiedToken.from(parser.parseSignedClaims(token).getPayload());
+    }
+}
@@ -4,6 +4,8 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import com.budgetmate.user.metrics.AuthMetrics;
+import com.budgetmate.user.service.TokenRevocationService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,6 +22,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 	// 매 요청마다 실행. => 요청이 올때 실제로 인증을 수행.
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final AuthMetrics authMetrics;
+    private final TokenRevocationService tokenRevocationService;
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
     @Override
@@ -47,11 +51,29 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
 
+        long start = System.nanoTime();
         String token = jwtTokenProvider.resolveToken(request);
+        authMetrics.record("jwt_filter", "resolve_token", "jwt", token != null ? AuthMetrics.SUCCESS : "absent", System.nanoTime() - start);
         logger.debug("[JwtAuthenticationFilter] 추출한 토큰: {}", token);
 
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            Authentication auth = jwtTokenProvider.getAuthentication(token);
+        start = System.nanoTime();
+        VerifiedToken verified = token != null ? jwtTokenProvider.verify(token) : null;
+        if (token != null) {
+            authMetrics.record("jwt_filter", "verify_token", "jwt", verified != null ? AuthMetrics.SUCCESS : "invalid", System.nanoTime() - start);
+        }
+        // 대부분은 Bloom filter에서 바로 걸러짐 -> DB 조회는 "revoke 됐을 수도 있는" 토큰만
+        if (verified != null && isRevoked(verified)) {
+            logger.debug("[JwtAuthenticationFilter] 로그아웃된 토큰 - jti: {}", verified.getTokenId());
+            verified = null;
+        }
+        // 서명 검증은 요청당 한번만 -> 검증 결과(VerifiedToken)를 principal 생성과 이후 처리에 그대로 넘김.
+
+        if (verified != null) {
+            VerifiedToken accepted = verified;
+            request.setAttribute(VerifiedToken.REQUEST_ATTRIBUTE, accepted);
+            Authentication auth = authMetrics.record("jwt_filter", "load_principal", "jwt",
+                    () -> jwtTokenProvider.getAuthentication(accepted, requestURI));
+            // jwt.claims-principal.enabled=true 이면 토큰 클레임으로 principal 생성 (DB 조회 X), 아니면 기존처럼 DB 조회.
             SecurityContextHolder.getContext().setAuthentication(auth);
             // SecurityContextHolder : spring Security가 사용하는 스레드 로컬 기반 인증 저장소 -> 한 요청에 대해 인증 객체를 저장하는 전역공간.
             // getContext() : 현재 요청 스레드의 security context 객체를 반환. => auth 객체는 되돌아가지 않고 단지 현재 요청 스레드 안의 전역 공간에 저장될 뿐.
@@ -65,6 +87,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 현재 필터에서 다음 필터로 요청을 넘겨줌 -> 만약 doFilter를 호출하지 않으면 요청은 그 자리에서 멈춤
         // 최종적으로 필터 체인 끝에는 보통 dispatherServlet이 있고 이것이 @RestController를 호출함.
     }
+
+    private boolean isRevoked(VerifiedToken verified) {
+        long start = System.nanoTime();
+        boolean revoked = tokenRevocationService.isRevoked(verified);
+        authMetrics.record("jwt_filter", "check_revocation", "jwt", revoked ? "revoked" : AuthMetrics.SUCCESS, System.nanoTime() - start);
+        return revoked;
+    }
 }
 // 요청 흐름 : 요청 -> SecurityFilterChain -> JwtAuthenticationFilter -> DispatcherServelt -> Controller...
 
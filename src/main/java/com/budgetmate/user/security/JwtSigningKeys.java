@@ -0,0 +1,189 @@
+package com.budgetmate.user.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.PrivateJwk;
+import io.jsonwebtoken.security.PublicJwk;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+// 비대칭(RS256/EdDSA) JWT 서명키 관리. jwt.signing.algorithm=HS256(기본)이면 사용하지 않고 기존 jwt.secret HMAC 서명.
+// 키셋 파일(jwt.signing.key-set)은 private 멤버(d)를 포함한 JWK Set:
+//   - 배열에서 첫번째 private 키로 서명 (헤더 kid)
+//   - 나머지 키(public만 있어도 됨)는 검증용으로만 유지 -> 로테이션 중 이전 키로 발급된 토큰도 exp까지 통과
+//   - reload-interval마다 파일을 다시 읽음 -> 새 키를 맨 앞에 추가하면 재시작 없이 로테이션, 이전 키는 토큰 만료(1시간) 후 제거
+// 키셋이 없으면 기동 시 임시 키를 만듦 (로컬/단일 인스턴스용 - 재시작하거나 인스턴스가 다르면 토큰 검증 불가)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtSigningKeys {
+
+    private final ResourceLoader resourceLoader;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Value("${jwt.signing.algorithm:HS256}")
+    private String algorithm;
+
+    // file:/etc/budgetmate/jwt-keys.json, classpath:... (비어 있으면 임시 키)
+    @Value("${jwt.signing.key-set:}")
+    private String keySetLocation;
+
+    private volatile KeySet keySet;
+    private String loadedContent;
+
+    public record KeySet(String signingKid, PrivateKey signingKey, Map<String, PublicKey> verificationKeys, String jwks) {
+    }
+
+    // 갱신으로 빠지거나 내용이 바뀐 검증 kid -> 그 키로 검증해 둔 캐시(VerifiedTokenCache)를 비워야 함
+    public record VerificationKeysRemovedEvent(Set<String> kids) {
+    }
+
+    @PostConstruct
+    protected void init() {
+        if (!isAsymmetric()) {
+            this.keySet = new KeySet(null, null, Map.of(), "{\"keys\":[]}");
+            return;
+        }
+        if (keySetLocation == null || keySetLocation.isBlank()) {
+            KeyPair pair = signatureAlgorithm().keyPair().build();
+            String kid = "ephemeral-" + UUID.randomUUID();
+            this.keySet = build(kid, pair.getPrivate(), List.of(new Entry(kid, pair.getPublic())));
+            log.warn("[JwtSigningKeys] jwt.signing.key-set 미설정 - 임시 {} 키 사용 (kid: {}). 재시작/다른 인스턴스에서는 검증되지 않음", algorithm, kid);
+            return;
+        }
+        String content = read();
+        this.keySet = parse(content);
+        this.loadedContent = content;
+        log.info("[JwtSigningKeys] {} 서명키 로딩 - 서명 kid: {}, 검증 kid: {}", algorithm, keySet.signingKid(), keySet.verificationKeys().keySet());
+    }
+
+    public boolean isAsymmetric() {
+        return !"HS256".equalsIgnoreCase(algorithm);
+    }
+
+    public SignatureAlgorithm signatureAlgorithm() {
+        return switch (algorithm.toUpperCase()) {
+            case "RS256" -> Jwts.SIG.RS256;
+            case "EDDSA" -> Jwts.SIG.EdDSA;
+            default -> throw new IllegalStateException("지원하지 않는 jwt.signing.algorithm: " + algorithm);
+        };
+    }
+
+    public KeySet current() {
+        return keySet;
+    }
+
+    // 파일이 바뀐 경우에만 다시 파싱. 실패하면 기존 키 유지.
+    @Scheduled(initialDelayString = "${jwt.signing.reload-interval:1m}", fixedDelayString = "${jwt.signing.reload-interval:1m}")
+    public void reload() {
+        if (!isAsymmetric() || keySetLocation == null || keySetLocation.isBlank()) {
+            return;
+        }
+        try {
+            String content = read();
+            if (content.equals(loadedContent)) {
+                return;
+            }
+            KeySet next = parse(content);
+            Set<String> removed = new HashSet<>();
+            keySet.verificationKeys().forEach((kid, key) -> {
+                if (!key.equals(next.verificationKeys().get(kid))) {
+                    removed.add(kid);
+                }
+            });
+            this.keySet = next;
+            this.loadedContent = content;
+            log.info("[JwtSigningKeys] 서명키 갱신 - 서명 kid: {}, 검증 kid: {}", next.signingKid(), next.verificationKeys().keySet());
+            if (!removed.isEmpty()) {
+                eventPublisher.publishEvent(new VerificationKeysRemovedEvent(removed));
+            }
+        } catch (RuntimeException e) {
+            log.warn("[JwtSigningKeys] 서명키 갱신 실패, 기존 키 사용: {}", e.getMessage());
+        }
+    }
+
+    private KeySet parse(String content) {
+        JsonNode keys;
+        try {
+            keys = objectMapper.readTree(content).path("keys");
+        } catch (IOException e) {
+            throw new IllegalStateException("JWK Set을 읽을 수 없습니다: " + keySetLocation, e);
+        }
+        // 배열 순서로 서명키를 정하므로 JwkSet 파서(Set) 대신 키 하나씩 파싱
+        String signingKid = null;
+        PrivateKey signingKey = null;
+        List<Entry> entries = new ArrayList<>();
+        for (JsonNode node : keys) {
+            Jwk<?> jwk = Jwks.parser().build().parse(node.toString());
+            if (jwk.getId() == null) {
+                throw new IllegalStateException("kid가 없는 JWK가 있습니다: " + keySetLocation);
+            }
+            PublicJwk<?> publicJwk;
+            if (jwk instanceof PrivateJwk<?, ?, ?> privateJwk) {
+                publicJwk = privateJwk.toPublicJwk();
+                if (signingKey == null) {
+                    signingKid = jwk.getId();
+                    signingKey = (PrivateKey) privateJwk.toKey();
+                }
+            } else if (jwk instanceof PublicJwk<?> onlyPublic) {
+                publicJwk = onlyPublic;
+            } else {
+                throw new IllegalStateException("비대칭 키가 아닌 JWK가 있습니다 (kid: " + jwk.getId() + ")");
+            }
+            entries.add(new Entry(jwk.getId(), publicJwk.toKey()));
+        }
+        if (signingKey == null) {
+            throw new IllegalStateException("서명용 private 키가 없습니다: " + keySetLocation);
+        }
+        return build(signingKid, signingKey, entries);
+    }
+
+    private KeySet build(String signingKid, PrivateKey signingKey, List<Entry> entries) {
+        Map<String, PublicKey> verificationKeys = new LinkedHashMap<>();
+        List<String> published = new ArrayList<>();
+        for (Entry entry : entries) {
+            verificationKeys.put(entry.kid(), entry.key());
+            // /user/.well-known/jwks.json 에는 public 멤버만 나감
+            published.add(Jwks.json(Jwks.builder().key(entry.key()).id(entry.kid()).publicKeyUse("sig").build()));
+        }
+        return new KeySet(signingKid, signingKey, Map.copyOf(verificationKeys), "{\"keys\":[" + String.join(",", published) + "]}");
+    }
+
+    private String read() {
+        try (InputStream in = resourceLoader.getResource(keySetLocation).getInputStream()) {
+            return StreamUtils.copyToString(in, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record Entry(String kid, PublicKey key) {
+    }
+}
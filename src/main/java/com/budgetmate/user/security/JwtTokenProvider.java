@@ -1,5 +1,6 @@
 package com.budgetmate.user.security;
 
+import com.budgetmate.user.metrics.AuthMetrics;
 import com.budgetmate.user.service.UserDetailsServiceImpl;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
@@ -14,18 +15,24 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
 
 import javax.crypto.SecretKey;
+import java.security.Key;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.Date;
 import java.util.List;
+import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
 public class JwtTokenProvider {
 
 	private final UserDetailsServiceImpl userDetailsService;
+	private final VerifiedTokenCache verifiedTokenCache;
+	private final AuthMetrics authMetrics;
+	private final JwtSigningKeys jwtSigningKeys;
 
 	@Value("${jwt.secret}")
 	private String secretKey;
@@ -34,6 +41,22 @@ public class JwtTokenProvider {
 
 	private SecretKey key;
 
+	private JwtParser jwtParser; // init()에서 한번만 생성해서 재사용 (thread-safe). 검증키는 헤더 kid로 매번 찾음
+
+	// 비대칭 서명(jwt.signing.algorithm=RS256/EdDSA) 전환 중에도 kid 없는 기존 HMAC 토큰을 exp까지 받아줌
+	@Value("${jwt.signing.accept-legacy-hmac:true}")
+	private boolean acceptLegacyHmac;
+
+	// true 이면 토큰 클레임(id, email, roles)만으로 principal을 만들고 DB 조회를 생략함.
+	@Value("${jwt.claims-principal.enabled:false}")
+	private boolean claimsPrincipalEnabled;
+
+	// claims 모드에서도 DB에서 principal을 로딩해야 하는 경로 (ex. userName이 필요한 /user/me)
+	@Value("${jwt.claims-principal.database-paths:/user/me}")
+	private String[] databasePrincipalPaths;
+
+	private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
 	private final Logger logger = LoggerFactory.getLogger(JwtTokenProvider.class);
 
 	@PostConstruct
@@ -41,46 +64,102 @@ public class JwtTokenProvider {
 		// Base64 인코딩 후 SecretKey 생성
 		String encodedKey = Base64.getEncoder().encodeToString(secretKey.getBytes(StandardCharsets.UTF_8));
 		this.key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(encodedKey));
+		this.jwtParser = Jwts.parser().keyLocator(this::locateKey).build();
+	}
+
+	// kid 없음 -> jwt.secret HMAC 토큰, kid 있음 -> JwtSigningKeys의 공개키 (없는 kid면 null -> 서명 검증 실패)
+	private Key locateKey(Header header) {
+		String kid = header instanceof ProtectedHeader protectedHeader ? protectedHeader.getKeyId() : null;
+		if (kid == null) {
+			return !jwtSigningKeys.isAsymmetric() || acceptLegacyHmac ? key : null;
+		}
+		return jwtSigningKeys.current().verificationKeys().get(kid);
 	}
 
 	// 토큰 생성
 	public String createToken(Long id, String email, List<String> roles) {
+		return authMetrics.record("token", "create", "jwt", () -> buildToken(id, email, roles));
+	}
+
+	private String buildToken(Long id, String email, List<String> roles) {
 		Date now = new Date();
 		Date expiry = new Date(now.getTime() + tokenValidTime);
 
-		return Jwts.builder().subject(email).claim("roles", roles).claim("id", id) // ****
-				.issuedAt(now).expiration(expiry).signWith(key).compact();
+		// jti(UUID) : 로그아웃 시 이 토큰만 골라서 revoke 하기 위한 식별자 (TokenRevocationService)
+		JwtBuilder builder = Jwts.builder().id(UUID.randomUUID().toString()).subject(email).claim("roles", roles).claim("id", id) // ****
+				.issuedAt(now).expiration(expiry);
+		if (jwtSigningKeys.isAsymmetric()) {
+			// private 키로 서명 + 헤더에 kid -> 다른 서비스는 /user/.well-known/jwks.json 공개키로 직접 검증
+			JwtSigningKeys.KeySet keySet = jwtSigningKeys.current();
+			return builder.header().keyId(keySet.signingKid()).and()
+					.signWith(keySet.signingKey(), jwtSigningKeys.signatureAlgorithm()).compact();
+		}
+		return builder.signWith(key).compact();
 		// .signWith(key) : 지정된 키를 이용하여 서명
 	}
 
 	// 토큰에서 인증 정보 추출
 	public Authentication getAuthentication(String token) {
-		String email = getEmail(token);
+		return getDatabaseAuthentication(getEmail(token));
+	}
+
+	// 요청 경로에 따라 claims 기반 / DB 기반 principal 중 하나로 인증 정보 생성
+	public Authentication getAuthentication(VerifiedToken verified, String requestURI) {
+		if (!claimsPrincipalEnabled || requiresDatabasePrincipal(requestURI)) {
+			return getDatabaseAuthentication(verified.getEmail());
+		}
+		return getClaimsAuthentication(verified);
+	}
+
+	// 토큰 클레임만으로 인증 정보 생성 (DB 조회 없음) -> principal에는 id, email, roles만 채워짐.
+	public Authentication getClaimsAuthentication(VerifiedToken verified) {
+		UserDetails userDetails = new CustomUserDetails(verified.getUserId(), verified.getEmail(), null, verified.getRoles());
+		return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+	}
+
+	private Authentication getDatabaseAuthentication(String email) {
 		UserDetails userDetails = userDetailsService.loadUserByUsername(email);
 		return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
 	}
 
+	private boolean requiresDatabasePrincipal(String requestURI) {
+		for (String pattern : databasePrincipalPaths) {
+			if (pathMatcher.match(pattern, requestURI)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	// 토큰 서명 + 만료를 한번에 검증하고 클레임을 돌려줌. 유효하지 않으면 null.
+	// 이미 검증한 토큰은 exp까지 VerifiedTokenCache에서 바로 꺼냄.
+	// 시간은 호출하는 쪽(JwtAuthenticationFilter의 verify_token 단계)에서만 잼 -> auth.stage에 두번 잡히지 않음.
+	public VerifiedToken verify(String token) {
+		return verifiedTokenCache.get(token, this::parse);
+	}
+
+	private VerifiedToken parse(String token) {
+		try {
+			return VerifiedToken.from(jwtParser.parseSignedClaims(token).getPayload());
+			// parseSignedClaims가 서명과 exp를 모두 확인함 (만료 시 ExpiredJwtException)
+		} catch (JwtException | IllegalArgumentException e) {
+			logger.warn(" 유효하지 않은 토큰: {}", e.getMessage());
+			return null;
+		}
+	}
+
 	// 토큰에서 사용자 이메일 추출
 	public String getEmail(String token) {
-		return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload().getSubject();
+		return jwtParser.parseSignedClaims(token).getPayload().getSubject();
 	}
 
 	public Long getUserId(String token) {
-
-		Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
-		return claims.get("userId", Long.class);
-
+		return VerifiedToken.from(jwtParser.parseSignedClaims(token).getPayload()).getUserId();
 	}
 
 	// 토큰 유효성 검사
 	public boolean validateToken(String token) {
-		try {
-			Jws<Claims> claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
-			return !claims.getPayload().getExpiration().before(new Date());
-		} catch (JwtException | IllegalArgumentException e) {
-			logger.warn(" 유효하지 않은 토큰: {}", e.getMessage());
-			return false;
-		}
+		return verify(token) != null;
 	}
 
 	public String resolveToken(HttpServletRequest request) {
@@ -0,0 +1,194 @@
+package com.budgetmate.user.security;
+
+import com.budgetmate.user.config.RateLimitProperties;
+import com.budgetmate.user.config.RateLimitProperties.EndpointLimit;
+import com.budgetmate.user.config.RateLimitProperties.Limit;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// /login, /send-code, /verify-code 앞단 요청 제한 필터. SecurityConfig에서 JwtAuthenticationFilter 앞에 등록.
+// 클라이언트 IP 기준 + 요청 바디 email 기준 버킷을 둘 다 통과해야 서비스(BCrypt, SMTP)까지 도달함.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final int MAX_BODY_BYTES = 16 * 1024; // 로그인/인증 요청 바디는 이보다 훨씬 작음
+
+    private final RateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private Cache<String, TokenBucket> buckets;
+
+    @PostConstruct
+    protected void init() {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxBuckets())
+                .expireAfterAccess(properties.getIdleTimeout())
+                .build();
+        meterRegistry.gauge("auth.rate_limit.buckets", this, filter -> filter.buckets.estimatedSize());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || !properties.getEndpoints().containsKey(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String endpoint = request.getRequestURI();
+        EndpointLimit limit = properties.getEndpoints().get(endpoint);
+        long now = System.nanoTime();
+
+        // 1. IP 기준 (server.forward-headers-strategy 설정 시 게이트웨이가 넘긴 실제 클라이언트 IP)
+        if (limit.getIp() != null) {
+            long waitNanos = consume(endpoint + "|ip|" + request.getRemoteAddr(), limit.getIp(), now);
+            if (waitNanos > 0) {
+                reject(response, endpoint, "ip", waitNanos);
+                return;
+            }
+        }
+
+        // 2. email 기준 -> 바디를 읽어야 하므로 읽은 바디를 다시 읽을 수 있게 감싸서 넘김
+        if (limit.getEmail() != null) {
+            byte[] body = request.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+            if (body.length > MAX_BODY_BYTES) {
+                response.sendError(HttpStatus.PAYLOAD_TOO_LARGE.value());
+                return;
+            }
+            request = new CachedBodyRequest(request, body);
+
+            String email = readEmail(body);
+            if (email != null) {
+                long waitNanos = consume(endpoint + "|email|" + email, limit.getEmail(), now);
+                if (waitNanos > 0) {
+                    reject(response, endpoint, "email", waitNanos);
+                    return;
+                }
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private long consume(String key, Limit limit, long now) {
+        long emissionInterval = limit.getPeriod().toNanos() / limit.getCapacity();
+        return buckets.get(key, k -> new TokenBucket()).tryConsume(now, emissionInterval, limit.getCapacity());
+    }
+
+    private String readEmail(byte[] body) {
+        if (body.length == 0) {
+            return null;
+        }
+        try {
+            JsonNode email = objectMapper.readTree(body).path("email");
+            return email.isTextual() ? email.asText().trim().toLowerCase(Locale.ROOT) : null;
+        } catch (IOException e) {
+            return null; // 바디 형식 오류는 컨트롤러에서 처리
+        }
+    }
+
+    private void reject(HttpServletResponse response, String endpoint, String keyType, long waitNanos) throws IOException {
+        meterRegistry.counter("auth.rate_limit.rejected", "endpoint", endpoint, "key", keyType).increment();
+        log.debug("[RateLimitFilter] 요청 제한 - {} ({})", endpoint, keyType);
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), Map.of("error", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."));
+    }
+
+    // 필터에서 이미 읽은 바디를 컨트롤러(@RequestBody)가 다시 읽을 수 있게 해주는 래퍼
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // 바디는 이미 메모리에 있음 -> 비동기 읽기(async servlet)도 바로 전부 읽을 수 있다고 알림
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        readListener.onAllDataRead();
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.budgetmate.user.security;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// lock-free 토큰버킷 (GCRA 방식). 상태는 "다음 토큰이 비는 이론상 시각" 하나뿐이라 CAS 한번으로 갱신됨.
+// capacity개를 period 동안 허용 = 토큰 하나당 emissionInterval(period / capacity) 만큼 시간을 소비.
+public class TokenBucket {
+
+    private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+    // 허용되면 0, 거절되면 다시 시도할 수 있을 때까지 남은 나노초.
+    public long tryConsume(long nowNanos, long emissionIntervalNanos, long capacity) {
+        long burstTolerance = emissionIntervalNanos * capacity;
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long base = tat == Long.MIN_VALUE ? nowNanos : Math.max(tat, nowNanos);
+            long next = base + emissionIntervalNanos;
+            if (next - nowNanos > burstTolerance) {
+                return next - nowNanos - burstTolerance;
+            }
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                return 0;
+            }
+        }
+    }
+}
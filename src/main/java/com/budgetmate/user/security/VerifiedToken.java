@@ -0,0 +1,45 @@
+package com.budgetmate.user.security;
+
+import com.budgetmate.user.entity.Role;
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+
+// 서명/만료 검증이 끝난 토큰의 클레임 값. 한번 검증한 결과를 필터 -> principal 생성까지 그대로 넘겨서 재파싱을 막음.
+@Getter
+public class VerifiedToken {
+
+    // 필터가 검증 결과를 request attribute로 넘길 때 사용하는 키.
+    public static final String REQUEST_ATTRIBUTE = "com.budgetmate.user.security.VerifiedToken"; // @RequestAttribute에서 쓰려면 상수여야 함
+
+    private final String tokenId; // jti - revoke(로그아웃) 시 deny-list 키. jti 도입 전에 발급된 토큰은 null
+    private final Long userId;
+    private final String email;
+    private final List<String> roles;
+    private final Instant issuedAt;
+    private final Instant expiresAt;
+
+    public VerifiedToken(String tokenId, Long userId, String email, List<String> roles, Instant issuedAt, Instant expiresAt) {
+        this.tokenId = tokenId;
+        this.userId = userId;
+        this.email = email;
+        this.roles = Role.intern(roles); // 캐시된 토큰끼리 권한 리스트를 공유
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    static VerifiedToken from(Claims claims) {
+        Object id = claims.get("id"); // createToken이 넣는 클레임 이름은 "id" (값 크기에 따라 Integer/Long으로 역직렬화됨)
+        List<?> roles = claims.get("roles", List.class);
+        return new VerifiedToken(
+                claims.getId(),
+                id instanceof Number number ? number.longValue() : null,
+                claims.getSubject(),
+                roles == null ? List.of() : roles.stream().map(String::valueOf).toList(),
+                claims.getIssuedAt() == null ? null : claims.getIssuedAt().toInstant(),
+                claims.getExpiration() == null ? null : claims.getExpiration().toInstant()
+        );
+    }
+}
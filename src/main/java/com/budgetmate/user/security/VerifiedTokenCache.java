@@ -0,0 +1,117 @@
+package com.budgetmate.user.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.function.Function;
+
+// 검증된 토큰 캐시. 같은 토큰이 반복해서 들어오면 Base64 디코딩/JSON 파싱/HMAC 검증을 건너뜀.
+// 키는 토큰 원문이 아니라 SHA-256 digest, 엔트리는 토큰 자체의 exp 시점에 만료됨.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VerifiedTokenCache {
+
+    // 엔트리 하나의 대략적인 힙 사용량 (digest 키 + VerifiedToken + 캐시 노드). 문자열 길이는 별도로 더함.
+    // 권한 리스트는 Role이 공유하는 인스턴스라 계산에서 제외.
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${jwt.cache.enabled:true}")
+    private boolean enabled;
+
+    // 캐시 전체가 차지할 수 있는 최대 메모리. 서로 다른 토큰이 대량으로 들어와도 이 이상 커지지 않음.
+    @Value("${jwt.cache.max-memory:16MB}")
+    private DataSize maxMemory;
+
+    private Cache<String, VerifiedToken> cache;
+
+    @PostConstruct
+    protected void init() {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxMemory.toBytes())
+                .weigher((String digest, VerifiedToken verified) -> weigh(verified))
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String digest, VerifiedToken verified, long currentTime) {
+                        return remainingNanos(verified);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String digest, VerifiedToken verified, long currentTime, long currentDuration) {
+                        return remainingNanos(verified);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String digest, VerifiedToken verified, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        // hit/miss/eviction 카운터 -> cache.gets{result=hit|miss}, cache.evictions ...
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified-tokens");
+    }
+
+    // 캐시에 있으면 그대로 반환, 없으면 verifier로 검증 후 저장. 검증 실패(null)는 캐시하지 않음.
+    public VerifiedToken get(String token, Function<String, VerifiedToken> verifier) {
+        if (!enabled) {
+            return verifier.apply(token);
+        }
+        return cache.get(digest(token), digest -> verifier.apply(token));
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    // 검증키가 빠지면 그 키로 검증된 토큰도 더 이상 통과하면 안 됨 -> exp까지 기다리지 않고 비움.
+    // 엔트리에 kid를 들고 있지 않으므로 전체를 비움 (키 교체는 드묾, 다음 요청부터 다시 검증해서 채워짐).
+    @EventListener
+    public void onVerificationKeysRemoved(JwtSigningKeys.VerificationKeysRemovedEvent event) {
+        log.info("[VerifiedTokenCache] 검증키 제거({}) - 캐시된 토큰 {}건 비움", event.kids(), cache.estimatedSize());
+        cache.invalidateAll();
+    }
+
+    private static long remainingNanos(VerifiedToken verified) {
+        if (verified.getExpiresAt() == null) {
+            return 0; // exp가 없는 토큰은 캐시하지 않음
+        }
+        return Math.max(0, Duration.between(Instant.now(), verified.getExpiresAt()).toNanos());
+    }
+
+    // 엔트리가 들고 있는 문자열: email, jti(tokenId)
+    private static int weigh(VerifiedToken verified) {
+        return ENTRY_OVERHEAD_BYTES + stringBytes(verified.getEmail()) + stringBytes(verified.getTokenId());
+    }
+
+    private static int stringBytes(String value) {
+        return value == null ? 0 : value.length() * 2;
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.budgetmate.user.service;
+
+import com.budgetmate.user.config.VirtualThreads;
+import com.budgetmate.user.dto.SocialLoginResult;
+import com.budgetmate.user.entity.LoginType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// 소셜 로그인 비동기 버전. 카카오/구글 HTTP 호출(SocialOAuthClient)은 응답이 올 때까지 스레드를 잡지 않음
+// -> provider가 느려져도 톰캣 스레드가 묶이지 않아서 /user/login, /user/me 가 영향을 받지 않음.
+// DB 단계(UserService.processSocialLogin)만 크기가 정해진 executor에서 실행하고, 대기열이 차면 바로 실패(RejectedExecutionException).
+@Service
+@RequiredArgsConstructor
+public class AsyncSocialLoginService {
+
+    private final SocialOAuthClient socialOAuthClient;
+    private final UserService userService;
+    private final MeterRegistry meterRegistry;
+
+    // DB 커넥션 풀보다 작게 -> 소셜 로그인이 몰려도 다른 요청이 쓸 커넥션이 남음
+    @Value("${oauth.async.repository-threads:4}")
+    private int repositoryThreads;
+
+    @Value("${oauth.async.queue-capacity:200}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor repositoryExecutor;
+
+    @PostConstruct
+    protected void init() {
+        this.repositoryExecutor = new ThreadPoolExecutor(repositoryThreads, repositoryThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                VirtualThreads.threadFactory("social-login-db-", false),
+                new ThreadPoolExecutor.AbortPolicy());
+        ExecutorServiceMetrics.monitor(meterRegistry, repositoryExecutor, "social_login.repository");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        repositoryExecutor.shutdown();
+    }
+
+    public CompletableFuture<SocialLoginResult> kakaoLoginAndGetUserAsync(String code) {
+        return socialOAuthClient.kakaoUser(code)
+                .thenApplyAsync(k -> userService.processSocialLogin(UserService.toSocialUserInfo(k), LoginType.KAKAO), repositoryExecutor);
+    }
+
+    public CompletableFuture<SocialLoginResult> googleLoginAndGetUserAsync(String code) {
+        return socialOAuthClient.googleUser(code)
+                .thenApplyAsync(g -> userService.processSocialLogin(UserService.toSocialUserInfo(g), LoginType.GOOGLE), repositoryExecutor);
+    }
+}
@@ -0,0 +1,103 @@
+package com.budgetmate.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 최대 개수 + 만료가 있는 로컬 인증코드 저장소.
+// 만료는 Caffeine 타이머 휠이 처리하므로 /verify-code 호출이 없어도 버려진 코드가 쌓이지 않음.
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "verification.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryVerificationCodeStore implements VerificationCodeStore {
+
+    // 만료된 코드를 바로 지우지 않고 잠깐 남겨둠 -> "만료되었습니다"와 "요청 내역 없음"을 구분해서 응답하기 위해.
+    private static final Duration EXPIRED_RETENTION = Duration.ofMinutes(1);
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${verification.code-ttl:5m}")
+    private Duration codeTtl;
+
+    @Value("${verification.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${verification.max-entries:100000}")
+    private long maxEntries;
+
+    private Cache<String, Entry> codes;
+
+    @PostConstruct
+    protected void init() {
+        this.codes = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(codeTtl.plus(EXPIRED_RETENTION))
+                .scheduler(Scheduler.systemScheduler()) // 조회가 없어도 만료 시점에 정리
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, codes, "verification.codes");
+    }
+
+    @Override
+    public void save(String email, String code) {
+        codes.put(email, new Entry(code, System.currentTimeMillis() + codeTtl.toMillis()));
+    }
+
+    @Override
+    public VerificationResult verify(String email, String code) {
+        Entry entry = codes.getIfPresent(email);
+        if (entry == null) {
+            return VerificationResult.NOT_FOUND;
+        }
+        if (entry.isExpired()) {
+            codes.asMap().remove(email, entry);
+            return VerificationResult.EXPIRED;
+        }
+        if (entry.attempts.incrementAndGet() > maxAttempts) {
+            codes.asMap().remove(email, entry);
+            return VerificationResult.TOO_MANY_ATTEMPTS;
+        }
+        if (!entry.matches(code)) {
+            return VerificationResult.MISMATCH;
+        }
+        codes.asMap().remove(email, entry);
+        return VerificationResult.VERIFIED;
+    }
+
+    @Override
+    public void remove(String email) {
+        codes.invalidate(email);
+    }
+
+    private static final class Entry {
+        private final String code;
+        private final long expiresAt;
+        private final AtomicInteger attempts = new AtomicInteger();
+
+        private Entry(String code, long expiresAt) {
+            this.code = code;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+
+        private boolean matches(String input) {
+            return input != null && MessageDigest.isEqual(
+                    code.getBytes(StandardCharsets.UTF_8), input.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.budgetmate.user.service;
+
+import com.budgetmate.user.entity.VerificationCode;
+import com.budgetmate.user.repository.VerificationCodeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
+
+// DB 공유 인증코드 저장소 -> Eureka 뒤의 여러 인스턴스 중 어디로 /verify-code가 가도 같은 코드를 봄.
+// 만료된 행은 sweep-interval마다 한번에 삭제.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "verification.store", havingValue = "jpa")
+public class JpaVerificationCodeStore implements VerificationCodeStore {
+
+    private final VerificationCodeRepository verificationCodeRepository;
+
+    @Value("${verification.code-ttl:5m}")
+    private Duration codeTtl;
+
+    @Value("${verification.max-attempts:5}")
+    private int maxAttempts;
+
+    @Override
+    @Transactional
+    public void save(String email, String code) {
+        verificationCodeRepository.save(VerificationCode.builder()
+                .email(email)
+                .code(code)
+                .expiresAt(new Date(System.currentTimeMillis() + codeTtl.toMillis()))
+                .build());
+    }
+
+    @Override
+    @Transactional
+    public VerificationResult verify(String email, String code) {
+        if (verificationCodeRepository.incrementAttempts(email) == 0) {
+            return VerificationResult.NOT_FOUND;
+        }
+        Optional<VerificationCode> saved = verificationCodeRepository.findById(email);
+        if (saved.isEmpty()) {
+            return VerificationResult.NOT_FOUND;
+        }
+
+        VerificationCode verificationCode = saved.get();
+        if (verificationCode.getExpiresAt().before(new Date())) {
+            verificationCodeRepository.delete(verificationCode);
+            return VerificationResult.EXPIRED;
+        }
+        if (verificationCode.getAttempts() > maxAttempts) {
+            verificationCodeRepository.delete(verificationCode);
+            return VerificationResult.TOO_MANY_ATTEMPTS;
+        }
+        if (code == null || !MessageDigest.isEqual(
+                verificationCode.getCode().getBytes(StandardCharsets.UTF_8), code.getBytes(StandardCharsets.UTF_8))) {
+            return VerificationResult.MISMATCH;
+        }
+        verificationCodeRepository.delete(verificationCode);
+        return VerificationResult.VERIFIED;
+    }
+
+    @Override
+    @Transactional
+    public void remove(String email) {
+        verificationCodeRepository.deleteById(email);
+    }
+
+    @Scheduled(fixedDelayString = "${verification.sweep-interval:1m}")
+    @Transactional
+    public void sweepExpired() {
+        int deleted = verificationCodeRepository.deleteExpired(new Date());
+        if (deleted > 0) {
+            log.debug("[JpaVerificationCodeStore] 만료된 인증코드 {}건 삭제", deleted);
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package com.budgetmate.user.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// point / currentWeek 리더보드. 요청마다 ORDER BY 하지 않고 메모리 순위 인덱스(RankingIndex)에서 O(log n)으로 조회.
+// - 기동 시 user 테이블에서 적재, 이후
+//   * 포인트 적립 flush(PointAccrualService) -> 해당 사용자 점수만 갱신 (listener는 flush 락 안에서 불리므로 메모리만 건드림)
+//   * 주간 롤오버 완료 -> 전체 재적재
+//   * reconcile-interval마다 전체 재적재 (다른 인스턴스의 적립/신규 가입 등으로 생긴 차이를 맞춤)
+// - 인덱스에 없는 사용자(적재 이후 가입)는 순위 조회 시 / load-interval마다 DB에서 읽어서 추가.
+// - DB 조회는 flush 락 밖에서 함 (flush가 느린 조회를 기다리지 않음). 스냅샷과 flush 적립분의 이중 계산/누락은 flush 순번으로 맞춤:
+//   * 재적재: 버퍼링 시작 이후 flush된 적립분을 순번과 함께 모아둠. 쿼리가 끝난 뒤 시작한 flush는 스냅샷에 없으므로 더하고,
+//     쿼리와 겹친 flush는 포함 여부를 알 수 없으므로 그 사용자만 다시 읽음.
+//   * 사용자 단위 적재: PointAccrualService.readBetweenFlushes (읽는 동안 flush가 끝났으면 다시 읽음).
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LeaderboardService {
+
+    public enum Type { POINT, WEEK }
+
+    private static final String SELECT_ALL = "SELECT id, point, current_week FROM user";
+    private static final String SELECT_USERS = "SELECT id, point, current_week FROM user WHERE id IN (:ids)";
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final PointAccrualService pointAccrualService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${leaderboard.enabled:true}")
+    private boolean enabled;
+
+    @Value("${leaderboard.fetch-size:10000}")
+    private int fetchSize;
+
+    private final Map<Type, RankingIndex> indexes = new EnumMap<>(Type.class);
+    private volatile boolean loaded;
+    private Timer reloadTimer;
+
+    // 재적재 중(버퍼링 시작 이후) flush된 적립분. null이면 재적재 중 아님. flush 락 안에서만 읽고 씀.
+    private volatile List<FlushedDeltas> buffered;
+    // 인덱스에 없어서 DB에서 읽어와야 하는 사용자 (적재 이후 가입 등)
+    private final Set<Long> usersToLoad = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    private record FlushedDeltas(long sequence, Map<Long, Long> deltas) {
+    }
+
+    private record UserRow(long id, long point, long currentWeek) {
+    }
+
+    @PostConstruct
+    protected void init() {
+        for (Type type : Type.values()) {
+            RankingIndex index = new RankingIndex();
+            indexes.put(type, index);
+            meterRegistry.gauge("leaderboard.size", Tags.of("type", type.name().toLowerCase()), index, RankingIndex::size);
+        }
+        this.reloadTimer = Timer.builder("leaderboard.reload")
+                .description("리더보드 전체 재적재 시간")
+                .register(meterRegistry);
+        pointAccrualService.addListener(this::onPointsFlushed);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (enabled) {
+            reload();
+        }
+    }
+
+    @EventListener
+    public void onRollover(WeeklyRolloverService.RolloverCompletedEvent event) {
+        if (enabled) {
+            reload();
+        }
+    }
+
+    @Scheduled(initialDelayString = "${leaderboard.reconcile-interval:5m}", fixedDelayString = "${leaderboard.reconcile-interval:5m}")
+    public void reconcile() {
+        if (enabled) {
+            reload();
+        }
+    }
+
+    // user 테이블을 한번 훑어서 두 인덱스를 새로 만들고 교체. 만드는 동안 기존 인덱스로 계속 조회 가능.
+    public void reload() {
+        reloadLock.lock();
+        try {
+            reloadLocked();
+        } finally {
+            reloadLock.unlock();
+        }
+        loadPendingUsers();
+    }
+
+    private void reloadLocked() {
+        long start = System.nanoTime();
+        Map<Long, Long> points = new HashMap<>();
+        Map<Long, Long> weeks = new HashMap<>();
+        // 이 순번 이하에서 시작한 flush는 스냅샷에 들어갔을 수도 있음 (쿼리가 끝난 시점의 순번)
+        long[] snapshotSequence = new long[1];
+        pointAccrualService.betweenFlushes(() -> buffered = new ArrayList<>());
+        try {
+            jdbcTemplate.execute((Connection connection) -> {
+                try (PreparedStatement statement = connection.prepareStatement(SELECT_ALL)) {
+                    statement.setFetchSize(fetchSize);
+                    try (ResultSet rs = statement.executeQuery()) {
+                        snapshotSequence[0] = pointAccrualService.flushSequence();
+                        while (rs.next()) {
+                            long id = rs.getLong(1);
+                            points.put(id, rs.getLong(2));
+                            weeks.put(id, rs.getLong(3));
+                        }
+                    }
+                }
+                return null;
+            });
+
+            // 스캔 중 쌓인 적립분을 스냅샷에 맞추고 교체 (인덱스 재구성은 flush 락 밖에서)
+            mergeInto(points, pointAccrualService.betweenFlushes(this::drainBuffered), snapshotSequence[0]);
+            indexes.get(Type.POINT).replaceAll(points);
+            indexes.get(Type.WEEK).replaceAll(weeks);
+        } finally {
+            // 교체 이후 남은 적립분은 새 인덱스에 바로 반영하고 버퍼링 종료 (실패 시에는 기존 인덱스에 반영)
+            pointAccrualService.betweenFlushes(() -> {
+                List<FlushedDeltas> remaining = buffered;
+                buffered = null;
+                if (remaining != null) {
+                    for (FlushedDeltas flushed : remaining) {
+                        if (flushed.sequence() > snapshotSequence[0]) {
+                            applyDeltas(flushed.deltas());
+                        } else {
+                            usersToLoad.addAll(flushed.deltas().keySet());
+                        }
+                    }
+                }
+                return null;
+            });
+        }
+        loaded = true;
+
+        long elapsedNanos = System.nanoTime() - start;
+        reloadTimer.record(Duration.ofNanos(elapsedNanos));
+        log.debug("[Leaderboard] 재적재 {}명 ({} ms)", points.size(), elapsedNanos / 1_000_000);
+    }
+
+    // 적재 이후 가입 등으로 인덱스에 없는 사용자를 모아서 DB에서 읽어 추가
+    @Scheduled(fixedDelayString = "${leaderboard.load-interval:1s}")
+    public void loadPendingUsers() {
+        if (usersToLoad.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(usersToLoad);
+        usersToLoad.removeAll(ids);
+        for (int from = 0; from < ids.size(); from += LOAD_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + LOAD_CHUNK_SIZE, ids.size()));
+            try {
+                loadUsers(chunk);
+            } catch (RuntimeException e) {
+                usersToLoad.addAll(chunk); // 다음 주기에 다시 시도
+                log.warn("[Leaderboard] 사용자 {}명 적재 실패: {}", chunk.size(), e.getMessage());
+            }
+        }
+    }
+
+    public List<RankingIndex.Entry> top(Type type, long offset, int limit) {
+        return indexes.get(type).page(offset, limit);
+    }
+
+    public Optional<RankingIndex.Entry> rankOf(Type type, long userId) {
+        RankingIndex index = indexes.get(type);
+        if (!index.contains(userId) && !loadUsers(List.of(userId))) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(index.get(userId));
+    }
+
+    public List<RankingIndex.Entry> around(Type type, long userId, int radius) {
+        RankingIndex index = indexes.get(type);
+        if (!index.contains(userId) && !loadUsers(List.of(userId))) {
+            return List.of();
+        }
+        return index.around(userId, radius);
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    // flush 락 안에서 불림 -> DB 조회 없이 메모리만 갱신
+    private void onPointsFlushed(long sequence, Map<Long, Long> appliedDeltas) {
+        List<FlushedDeltas> reloading = buffered;
+        if (reloading != null) {
+            reloading.add(new FlushedDeltas(sequence, appliedDeltas));
+        } else {
+            applyDeltas(appliedDeltas);
+        }
+    }
+
+    private void applyDeltas(Map<Long, Long> appliedDeltas) {
+        RankingIndex index = indexes.get(Type.POINT);
+        for (Map.Entry<Long, Long> entry : appliedDeltas.entrySet()) {
+            if (index.contains(entry.getKey())) {
+                index.add(entry.getKey(), entry.getValue(), 0);
+            } else {
+                usersToLoad.add(entry.getKey()); // 적재 이후 가입한 사용자 -> 나중에 DB 값(이번 적립 포함)으로 추가
+            }
+        }
+    }
+
+    private List<FlushedDeltas> drainBuffered() {
+        List<FlushedDeltas> drained = buffered;
+        buffered = new ArrayList<>();
+        return drained;
+    }
+
+    // 쿼리가 끝난 뒤 시작한 flush(sequence > snapshotSequence)는 스냅샷에 없으므로 더함.
+    // 쿼리와 겹친 flush는 스냅샷에 들어갔는지 알 수 없으므로 그 사용자는 재적재 후 DB에서 다시 읽음.
+    // 스냅샷에 없는 사용자(스캔 이후 가입)도 적립분만으로 점수를 만들 수 없으므로 다시 읽음.
+    private void mergeInto(Map<Long, Long> points, List<FlushedDeltas> flushes, long snapshotSequence) {
+        for (FlushedDeltas flushed : flushes) {
+            if (flushed.sequence() <= snapshotSequence) {
+                usersToLoad.addAll(flushed.deltas().keySet());
+                continue;
+            }
+            flushed.deltas().forEach((userId, delta) -> {
+                if (points.computeIfPresent(userId, (id, score) -> score + delta) == null) {
+                    usersToLoad.add(userId);
+                }
+            });
+        }
+    }
+
+    // DB 조회는 flush 락 밖, 인덱스 반영만 flush 사이 -> 읽은 값에 포함된 적립분이 listener로 한번 더 더해지지 않음.
+    // 재적재 중이면 곧 교체될 인덱스라서 건너뛰고 재적재 후에 읽음.
+    private boolean loadUsers(List<Long> userIds) {
+        if (buffered != null) {
+            usersToLoad.addAll(userIds);
+            return false;
+        }
+        return pointAccrualService.readBetweenFlushes(
+                () -> namedParameterJdbcTemplate.query(SELECT_USERS, Map.of("ids", userIds),
+                        (rs, rowNum) -> new UserRow(rs.getLong(1), rs.getLong(2), rs.getLong(3))),
+                rows -> {
+                    if (buffered != null) {
+                        usersToLoad.addAll(userIds);
+                        return false;
+                    }
+                    for (UserRow row : rows) {
+                        indexes.get(Type.POINT).put(row.id(), row.point());
+                        indexes.get(Type.WEEK).put(row.id(), row.currentWeek());
+                    }
+                    return !rows.isEmpty();
+                });
+    }
+}
@@ -0,0 +1,194 @@
+package com.budgetmate.user.service;
+
+import com.budgetmate.user.config.VirtualThreads;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 메일 비동기 발송기. 요청 스레드는 큐에 넣고 바로 반환하고, worker 스레드가 큐에서 모아서 배치로 보냄.
+// JavaMailSender.send(SimpleMailMessage...)는 배치 전체를 SMTP 연결 하나로 보냄 -> 메일마다 connect/auth 하지 않음.
+// 실패한 메일만 retryBackoff * 2^(시도-1) 뒤에 다시 큐에 넣고, maxAttempts를 넘기면 포기(failed 카운트).
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MailDispatcher {
+
+    private final JavaMailSender mailSender;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${email.dispatch.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${email.dispatch.workers:2}")
+    private int workerCount;
+
+    @Value("${email.dispatch.batch-size:50}")
+    private int batchSize;
+
+    @Value("${email.dispatch.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${email.dispatch.retry-backoff:2s}")
+    private Duration retryBackoff;
+
+    // JDK 21 + spring.threads.virtual.enabled=true 이면 worker를 가상 스레드로.
+    // JavaMail Transport 내부의 synchronized 때문에 SMTP 전송 중에는 캐리어 스레드가 고정될 수 있음 -> worker 수는 작게 유지
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private BlockingQueue<PendingMail> queue;
+    private ExecutorService workers;
+    private ScheduledExecutorService retryScheduler;
+    private volatile boolean running;
+
+    private Timer sendTimer;
+    private Counter sentCounter;
+    private Counter retriedCounter;
+    private Counter failedCounter;
+    private Counter rejectedCounter;
+
+    @PostConstruct
+    protected void init() {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.workers = Executors.newFixedThreadPool(workerCount, VirtualThreads.threadFactory("mail-dispatch-", virtualThreads));
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(VirtualThreads.threadFactory("mail-retry-", false)); // 예약만 하므로 플랫폼 스레드 하나
+
+        meterRegistry.gauge("mail.dispatch.queue.depth", queue, BlockingQueue::size);
+        this.sendTimer = Timer.builder("mail.dispatch.send")
+                .description("SMTP 배치 전송 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.sentCounter = meterRegistry.counter("mail.dispatch.sent");
+        this.retriedCounter = meterRegistry.counter("mail.dispatch.retried");
+        this.failedCounter = meterRegistry.counter("mail.dispatch.failed");
+        this.rejectedCounter = meterRegistry.counter("mail.dispatch.rejected");
+
+        this.running = true;
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::work);
+        }
+    }
+
+    // 큐에 넣기만 하고 바로 반환. 큐가 가득 찼으면 false.
+    public boolean enqueue(SimpleMailMessage message) {
+        if (!running || !queue.offer(new PendingMail(message, 1))) {
+            rejectedCounter.increment();
+            return false;
+        }
+        return true;
+    }
+
+    public int queueDepth() {
+        return queue.size();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false; // 새 메일은 받지 않고, worker는 큐에 남은 것까지 보내고 종료
+        retryScheduler.shutdownNow();
+        workers.shutdown();
+        if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("[MailDispatcher] 종료 대기 시간 초과 - 미발송 {}건", queue.size());
+            workers.shutdownNow();
+        }
+    }
+
+    private void work() {
+        List<PendingMail> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingMail first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                send(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("[MailDispatcher] worker 처리 중 오류", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void send(List<PendingMail> batch) {
+        SimpleMailMessage[] messages = batch.stream().map(PendingMail::message).toArray(SimpleMailMessage[]::new);
+        long start = System.nanoTime();
+        try {
+            mailSender.send(messages);
+            sentCounter.increment(batch.size());
+        } catch (MailSendException e) {
+            // 메일 단위 실패: 실패한 메일만 재시도 (failedMessages 키는 원본 SimpleMailMessage)
+            Map<Object, Exception> failed = e.getFailedMessages();
+            if (failed.isEmpty()) {
+                retryAll(batch, e);
+                return;
+            }
+            sentCounter.increment(batch.size() - failed.size());
+            for (PendingMail pending : batch) {
+                if (failed.containsKey(pending.message())) {
+                    retry(pending, failed.get(pending.message()));
+                }
+            }
+        } catch (MailException e) {
+            // 연결/인증 실패 -> 배치 전체 재시도
+            retryAll(batch, e);
+        } finally {
+            sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void retryAll(List<PendingMail> batch, Exception cause) {
+        for (PendingMail pending : batch) {
+            retry(pending, cause);
+        }
+    }
+
+    private void retry(PendingMail pending, Exception cause) {
+        String to = String.join(",", pending.message().getTo() == null ? new String[0] : pending.message().getTo());
+        if (pending.attempt() >= maxAttempts || !running) {
+            failedCounter.increment();
+            log.error("[MailDispatcher] 이메일 전송 실패 ({}회 시도) → {}: {}", pending.attempt(), to, cause.getMessage());
+            return;
+        }
+
+        long delay = retryBackoff.toMillis() << (pending.attempt() - 1);
+        log.warn("[MailDispatcher] 이메일 전송 실패, {}ms 후 재시도 → {}: {}", delay, to, cause.getMessage());
+        retriedCounter.increment();
+        PendingMail next = new PendingMail(pending.message(), pending.attempt() + 1);
+        retryScheduler.schedule(() -> {
+            if (!queue.offer(next)) {
+                failedCounter.increment();
+                log.error("[MailDispatcher] 재시도 큐 적재 실패 (큐 가득 참) → {}", to);
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private record PendingMail(SimpleMailMessage message, int attempt) {
+    }
+}
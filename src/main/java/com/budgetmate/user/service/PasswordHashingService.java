@@ -0,0 +1,114 @@
+package com.budgetmate.user.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// BCrypt encode/matches 전용 executor. CPU 코어 수만큼의 스레드만 BCrypt를 돌리고,
+// 대기열(queue-capacity)이 차면 바로 503 -> 로그인 폭주 때도 톰캣 스레드가 전부 BCrypt에 묶이지 않음.
+// CPU 작업이라 가상 스레드 모드(spring.threads.virtual.enabled)에서도 플랫폼 스레드 풀을 그대로 씀.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final MeterRegistry meterRegistry;
+
+    // 0 이면 availableProcessors
+    @Value("${password.hashing.threads:0}")
+    private int threads;
+
+    @Value("${password.hashing.queue-capacity:64}")
+    private int queueCapacity;
+
+    // 대기열 + 해시 시간 상한. 지정하지 않으면 BCrypt 목표 시간(password.bcrypt.target-time)으로
+    // 가득 찬 대기열을 비우는 시간(목표 시간 x (queue/threads + 1))의 timeout-factor배.
+    // -> 해시가 목표보다 훨씬 느려진 경우(과부하, strength 설정 실수)에만 끊고 503
+    @Value("${password.hashing.timeout:}")
+    private Duration timeout;
+
+    @Value("${password.bcrypt.target-time:250ms}")
+    private Duration bcryptTargetTime;
+
+    @Value("${password.hashing.timeout-factor:2}")
+    private int timeoutFactor;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    protected void init() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "password.hashing");
+        if (timeout == null) {
+            this.timeout = bcryptTargetTime.multipliedBy((long) timeoutFactor * (queueCapacity / poolSize + 1));
+        }
+        log.info("[PasswordHashing] threads={}, queue={}, timeout={} ms", poolSize, queueCapacity, timeout.toMillis());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public String encode(String rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            meterRegistry.counter("password.hashing.rejected").increment();
+            throw new PasswordHashingUnavailableException("요청이 많아 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            meterRegistry.counter("password.hashing.timeout").increment();
+            throw new PasswordHashingUnavailableException("요청이 많아 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException("비밀번호 처리가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
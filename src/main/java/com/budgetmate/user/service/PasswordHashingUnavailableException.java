@@ -0,0 +1,13 @@
+package com.budgetmate.user.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 해싱 executor가 포화 상태 -> 요청 스레드를 붙잡고 기다리지 않고 바로 503.
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class PasswordHashingUnavailableException extends RuntimeException {
+
+    public PasswordHashingUnavailableException(String message) {
+        super(message);
+    }
+}
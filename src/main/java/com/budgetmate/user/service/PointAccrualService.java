@@ -0,0 +1,410 @@
+package com.budgetmate.user.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// 포인트 적립: 다른 서비스가 보내는 적립 요청을 사용자별 LongAdder에 누적했다가
+// flush-interval마다 "point = point + ?" batch UPDATE로 한번에 반영 (INT 최대값을 넘는 분은 잘라내고 points.capped로 집계).
+// - JPA read-modify-write가 없으므로 lost update 없음, 인기 사용자 행에 대한 락 경합도 flush 한번으로 줄어듦.
+// - 내구성 한계: 인스턴스가 비정상 종료되면 마지막 flush 이후(최대 flush-interval) 적립분이 유실될 수 있음. 정상 종료 시에는 @PreDestroy에서 flush.
+// - 조회(currentPoints)는 DB 값 + 이 인스턴스의 미반영분. DB는 flush 락 없이 읽고, 읽는 동안 flush가 반영됐으면(flush 순번이 바뀜)
+//   다시 읽어서 이중 계산/누락이 없음. 다른 인스턴스의 미반영분은 그 인스턴스의 다음 flush 이후에 보임.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointAccrualService {
+
+    // 반영할 행을 id 순으로 잠그고 현재 값을 읽음 -> 실제로 더할 수 있는 양을 미리 계산 (point 컬럼은 INT)
+    private static final String LOCK_POINTS = "SELECT id, point FROM user WHERE id IN (%s) ORDER BY id FOR UPDATE";
+    // updated_at도 갱신 -> 증분 export(UserExportService)에서 포인트 변경이 보임
+    private static final String ADD_POINTS = "UPDATE user SET point = point + ?, updated_at = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${points.flush-batch-size:500}")
+    private int flushBatchSize;
+
+    // 미반영 사용자 수가 이만큼 쌓이면 새 적립 요청을 받지 않음 (컨트롤러에서 503). 요청 스레드가 flush를 떠안지 않도록.
+    @Value("${points.max-pending-users:100000}")
+    private int maxPendingUsers;
+
+    // 적립 1건의 최대값 (컨트롤러에서 범위를 벗어나면 400)
+    @Value("${points.max-delta:1000000}")
+    private long maxDelta;
+
+    // 행 단위 재시도에서도 계속 실패하는 사용자의 적립분은 이 횟수 후 버림 (dead-letter 로그 + 카운터)
+    @Value("${points.max-attempts:5}")
+    private int maxAttempts;
+
+    // 읽는 도중 flush가 계속 겹칠 때 다시 읽는 최대 횟수
+    private static final int MAX_READ_ATTEMPTS = 10;
+
+    private final ConcurrentHashMap<Long, Cell> pending = new ConcurrentHashMap<>();
+    // flush(drain ~ commit ~ listener)를 직렬화. 조회 쪽은 DB를 읽은 뒤 메모리 반영할 때만 잠깐 잡음 (DB I/O는 락 밖).
+    // 적립(accrue)은 락 없이 LongAdder만 건드림.
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // flush 순번. 반영할 것이 있는 flush가 시작하면(commit 전) 홀수, 끝나면(listener 이후) 짝수.
+    // 읽기 전후로 값이 같으면 그 사이에 commit된 flush가 없음.
+    private final AtomicLong flushSequence = new AtomicLong();
+    private final List<PointFlushListener> listeners = new CopyOnWriteArrayList<>();
+    private final ConcurrentHashMap<Long, Integer> failedAttempts = new ConcurrentHashMap<>();
+
+    private Timer flushTimer;
+    private Counter accruedCounter;
+    private Counter flushedCounter;
+    private Counter droppedCounter;
+    private Counter deadLetterCounter;
+    private Counter rejectedCounter;
+    private Counter cappedCounter;
+    private Counter readRetryCounter;
+
+    // 사용자별 누적 셀. flush가 비어 있는 셀을 map에서 뺄 때(retire) 그 순간 add 중인 요청이 유실되지 않도록
+    // inFlight로 진행 중인 add를 세고, retired 이후에는 새 셀로 다시 시도하게 함.
+    // (둘 다 LongAdder라 인기 사용자에 대한 동시 적립도 한 변수에 몰리지 않음)
+    private static final class Cell {
+        final LongAdder delta = new LongAdder();
+        final LongAdder inFlight = new LongAdder();
+        volatile boolean retired;
+    }
+
+    // flush로 DB에 반영된 사용자별 적립분을 받음 (예: 리더보드 갱신). sequence는 그 flush의 (홀수) 순번.
+    // flush 락 안에서 불림 -> 메모리 작업만 할 것.
+    public interface PointFlushListener {
+        void onFlushed(long sequence, Map<Long, Long> appliedDeltas);
+    }
+
+    @PostConstruct
+    protected void init() {
+        meterRegistry.gauge("points.pending.users", pending, Map::size);
+        meterRegistry.gauge("points.pending.delta", this, PointAccrualService::totalPendingDelta);
+        this.flushTimer = Timer.builder("points.flush")
+                .description("포인트 적립분 DB 반영 시간")
+                .register(meterRegistry);
+        this.accruedCounter = meterRegistry.counter("points.accrued");
+        this.flushedCounter = meterRegistry.counter("points.flushed");
+        this.droppedCounter = meterRegistry.counter("points.dropped");
+        this.deadLetterCounter = meterRegistry.counter("points.dead_letter");
+        this.rejectedCounter = meterRegistry.counter("points.rejected");
+        this.cappedCounter = meterRegistry.counter("points.capped");
+        this.readRetryCounter = meterRegistry.counter("points.read_retries");
+    }
+
+    public void addListener(PointFlushListener listener) {
+        listeners.add(listener);
+    }
+
+    // flush(반영 ~ listener 호출)와 겹치지 않게 action 실행. flush가 action이 끝날 때까지 기다리므로 메모리 작업만 넣을 것 (DB I/O 금지).
+    public <T> T betweenFlushes(Supplier<T> action) {
+        flushLock.lock();
+        try {
+            return action.get();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // read(DB 조회)는 flush 락 없이 실행하고, 결과 반영(apply)만 flush 사이에서 실행.
+    // read 도중 flush가 commit됐으면 읽은 값에 그 적립분이 들어갔는지 알 수 없으므로 다시 읽음.
+    // -> apply 시점 기준으로 읽은 값에는 끝난 flush가 모두 들어 있고, 이후 flush는 listener로만 들어옴.
+    public <T, R> R readBetweenFlushes(Supplier<T> read, Function<T, R> apply) {
+        for (int attempt = 1; ; attempt++) {
+            long sequence = flushSequence.get();
+            if ((sequence & 1) == 0) {
+                T value = read.get();
+                flushLock.lock();
+                try {
+                    if (flushSequence.get() == sequence) {
+                        return apply.apply(value);
+                    }
+                } finally {
+                    flushLock.unlock();
+                }
+            } else {
+                // 반영 중인 flush가 끝날 때까지 대기 (DB를 읽지 않으므로 락을 잡고 있지 않음)
+                flushLock.lock();
+                flushLock.unlock();
+            }
+            readRetryCounter.increment();
+            if (attempt >= MAX_READ_ATTEMPTS) {
+                throw new IllegalStateException("flush와 계속 겹쳐서 포인트를 읽지 못했습니다.");
+            }
+        }
+    }
+
+    public long flushSequence() {
+        return flushSequence.get();
+    }
+
+    public long maxDelta() {
+        return maxDelta;
+    }
+
+    public boolean isValidDelta(long delta) {
+        return delta > 0 && delta <= maxDelta;
+    }
+
+    public void accrue(long userId, long delta) {
+        if (!isValidDelta(delta)) {
+            throw new IllegalArgumentException("적립 포인트는 1 이상 " + maxDelta + " 이하여야 합니다: " + delta);
+        }
+        add(userId, delta);
+        accruedCounter.increment();
+    }
+
+    // 다음 flush가 돌 때까지 적립을 더 받을 여유가 있는지. 없으면 호출 측이 나중에 재시도.
+    public boolean hasCapacity() {
+        if (pending.size() < maxPendingUsers) {
+            return true;
+        }
+        rejectedCounter.increment();
+        return false;
+    }
+
+    // DB 값 + 아직 반영되지 않은 적립분
+    public long currentPoints(long userId) {
+        return readBetweenFlushes(
+                () -> jdbcTemplate.query("SELECT point FROM user WHERE id = ?", rs -> rs.next() ? rs.getLong(1) : null, userId),
+                stored -> {
+                    if (stored == null) {
+                        throw new IllegalArgumentException("존재하지 않는 사용자입니다: " + userId);
+                    }
+                    return stored + pendingDelta(userId);
+                });
+    }
+
+    // 이 인스턴스의 사용자별 미반영분
+    public long pendingDelta(long userId) {
+        Cell cell = pending.get(userId);
+        return cell == null ? 0 : cell.delta.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${points.flush-interval:1s}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushLocked();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        if (totalPendingDelta() != 0) {
+            log.warn("[PointAccrual] 종료 시 미반영 적립분: {}", totalPendingDelta());
+        }
+    }
+
+    private void flushLocked() {
+        long start = System.nanoTime();
+        // id 순으로 정렬해서 UPDATE -> 여러 인스턴스가 동시에 flush해도 행 락 순서가 같아서 데드락이 나지 않음
+        TreeMap<Long, Long> deltas = new TreeMap<>();
+
+        for (Map.Entry<Long, Cell> entry : pending.entrySet()) {
+            Cell cell = entry.getValue();
+            long delta = cell.delta.sumThenReset();
+            if (delta == 0) {
+                // 이번 주기에 적립이 없던 사용자 -> 셀 정리. retired를 본 add는 새 셀로 가고,
+                // 못 본 add는 inFlight가 0이 될 때까지 기다렸다가 마지막으로 한번 더 비움.
+                cell.retired = true;
+                while (cell.inFlight.sum() != 0) {
+                    Thread.onSpinWait();
+                }
+                delta = cell.delta.sumThenReset();
+                pending.remove(entry.getKey(), cell);
+            }
+            if (delta != 0) {
+                deltas.put(entry.getKey(), delta);
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        long sequence = flushSequence.incrementAndGet();
+        try {
+            applyAll(deltas, sequence);
+        } finally {
+            flushSequence.incrementAndGet();
+        }
+        flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private void applyAll(TreeMap<Long, Long> deltas, long sequence) {
+        Map<Long, Long> applied = new TreeMap<>();
+        List<Map.Entry<Long, Long>> batch = new ArrayList<>(Math.min(flushBatchSize, deltas.size()));
+        for (Map.Entry<Long, Long> entry : deltas.entrySet()) {
+            batch.add(entry);
+            if (batch.size() >= flushBatchSize) {
+                apply(batch, applied);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            apply(batch, applied);
+        }
+
+        if (!applied.isEmpty()) {
+            for (PointFlushListener listener : listeners) {
+                try {
+                    listener.onFlushed(sequence, applied);
+                } catch (RuntimeException e) {
+                    log.warn("[PointAccrual] flush listener 오류", e);
+                }
+            }
+        }
+    }
+
+    private void apply(List<Map.Entry<Long, Long>> batch, Map<Long, Long> applied) {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        Map<Long, Long> added;
+        try {
+            added = addPoints(batch, now);
+        } catch (RuntimeException e) {
+            if (isTransient(e)) {
+                // DB 장애 -> 묶음 그대로 다시 쌓아두고 다음 flush에서 재시도
+                log.warn("[PointAccrual] flush 실패, 다음 주기에 재시도 ({}건): {}", batch.size(), e.getMessage());
+                batch.forEach(entry -> add(entry.getKey(), entry.getValue()));
+            } else {
+                // 특정 행 때문에 묶음 전체가 롤백됨 -> 행 단위로 다시 반영해서 문제 행만 골라냄
+                log.warn("[PointAccrual] batch flush 실패, 행 단위로 재시도 ({}건): {}", batch.size(), e.getMessage());
+                batch.forEach(entry -> applyRow(entry, now, applied));
+            }
+            return;
+        }
+        batch.forEach(entry -> record(entry, added.get(entry.getKey()), applied));
+    }
+
+    private void applyRow(Map.Entry<Long, Long> entry, Timestamp now, Map<Long, Long> applied) {
+        long userId = entry.getKey();
+        try {
+            Map<Long, Long> added = addPoints(List.of(entry), now);
+            failedAttempts.remove(userId);
+            record(entry, added.get(userId), applied);
+        } catch (RuntimeException e) {
+            if (isTransient(e)) {
+                add(userId, entry.getValue());
+                return;
+            }
+            int attempts = failedAttempts.merge(userId, 1, Integer::sum);
+            if (attempts < maxAttempts) {
+                add(userId, entry.getValue());
+                return;
+            }
+            failedAttempts.remove(userId);
+            deadLetterCounter.increment(entry.getValue());
+            log.error("[PointAccrual] dead-letter: 사용자 {} 적립분 {} 반영 {}회 실패로 버림: {}",
+                    userId, entry.getValue(), attempts, e.getMessage());
+        }
+    }
+
+    // 한 트랜잭션에서 행을 잠그고 INT 최대값을 넘지 않는 만큼만 더함. 사용자별로 실제 더한 양을 반환 (없는 사용자는 빠짐).
+    private Map<Long, Long> addPoints(List<Map.Entry<Long, Long>> batch, Timestamp now) {
+        return transactionTemplate.execute(status -> {
+            Map<Long, Long> stored = new HashMap<>();
+            jdbcTemplate.query(String.format(LOCK_POINTS, String.join(",", Collections.nCopies(batch.size(), "?"))),
+                    rs -> {
+                        stored.put(rs.getLong(1), rs.getLong(2));
+                    },
+                    batch.stream().map(Map.Entry::getKey).toArray());
+
+            Map<Long, Long> added = new HashMap<>();
+            List<Object[]> updates = new ArrayList<>(stored.size());
+            for (Map.Entry<Long, Long> entry : batch) {
+                Long point = stored.get(entry.getKey());
+                if (point == null) {
+                    continue;
+                }
+                long amount = Math.min(entry.getValue(), Integer.MAX_VALUE - point);
+                added.put(entry.getKey(), amount);
+                if (amount > 0) {
+                    updates.add(new Object[]{amount, now, entry.getKey()});
+                }
+            }
+            if (!updates.isEmpty()) {
+                jdbcTemplate.batchUpdate(ADD_POINTS, updates);
+            }
+            return added;
+        });
+    }
+
+    // added: DB에 실제로 더한 양 (null이면 없는 사용자). listener/메트릭에는 이 값만 넘김.
+    private void record(Map.Entry<Long, Long> entry, Long added, Map<Long, Long> applied) {
+        if (added == null) {
+            droppedCounter.increment(entry.getValue());
+            log.warn("[PointAccrual] 존재하지 않는 사용자 {} 적립분 {} 버림", entry.getKey(), entry.getValue());
+            return;
+        }
+        if (added < entry.getValue()) {
+            cappedCounter.increment(entry.getValue() - added);
+            log.warn("[PointAccrual] 사용자 {} 포인트가 최대값 -> 적립분 {} 중 {}만 반영", entry.getKey(), entry.getValue(), added);
+        }
+        if (added > 0) {
+            applied.put(entry.getKey(), added);
+            flushedCounter.increment(added);
+        }
+    }
+
+    // 커넥션/타임아웃/데드락 등 다시 시도하면 되는 오류인지
+    private static boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException;
+    }
+
+    private void add(long userId, long delta) {
+        while (true) {
+            Cell cell = pending.computeIfAbsent(userId, id -> new Cell());
+            cell.inFlight.increment();
+            try {
+                if (!cell.retired) {
+                    cell.delta.add(delta);
+                    return;
+                }
+            } finally {
+                cell.inFlight.decrement();
+            }
+            pending.remove(userId, cell); // flush가 막 정리한 셀 -> 새 셀로 재시도
+        }
+    }
+
+    private long totalPendingDelta() {
+        long total = 0;
+        for (Cell cell : pending.values()) {
+            total += cell.delta.sum();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,273 @@
+package com.budgetmate.user.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 점수 내림차순(동점이면 id 오름차순) 순위 인덱스.
+// 서브트리 크기를 들고 있는 treap(order-statistic tree)이라 갱신/순위/k번째 조회가 모두 O(log n).
+// (ConcurrentSkipListMap은 정렬은 되지만 "몇 번째인지"를 구하려면 O(n)이라 쓰지 않음)
+// 읽기는 동시에, 쓰기는 하나씩 (ReadWriteLock).
+public final class RankingIndex {
+
+    public record Entry(long userId, long score, long rank) {
+    }
+
+    private static final class Node {
+        final long id;
+        final long score;
+        final int priority;
+        int size = 1;
+        Node left;
+        Node right;
+
+        Node(long id, long score) {
+            this.id = id;
+            this.score = score;
+            this.priority = ThreadLocalRandom.current().nextInt();
+        }
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Long> scores = new HashMap<>();
+    private Node root;
+
+    public void put(long userId, long score) {
+        lock.writeLock().lock();
+        try {
+            Long previous = scores.put(userId, score);
+            if (previous != null) {
+                if (previous == score) {
+                    return;
+                }
+                root = remove(root, previous, userId);
+            }
+            root = insert(root, new Node(userId, score));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 없는 사용자면 initialScore + delta 로 추가
+    public void add(long userId, long delta, long initialScore) {
+        lock.writeLock().lock();
+        try {
+            Long previous = scores.get(userId);
+            long score = (previous == null ? initialScore : previous) + delta;
+            scores.put(userId, score);
+            if (previous != null) {
+                root = remove(root, previous, userId);
+            }
+            root = insert(root, new Node(userId, score));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long userId) {
+        lock.writeLock().lock();
+        try {
+            Long previous = scores.remove(userId);
+            if (previous != null) {
+                root = remove(root, previous, userId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean contains(long userId) {
+        lock.readLock().lock();
+        try {
+            return scores.containsKey(userId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return scores.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 동점자는 같은 순위 (1 + 점수가 더 높은 사용자 수). 없으면 null
+    public Entry get(long userId) {
+        lock.readLock().lock();
+        try {
+            Long score = scores.get(userId);
+            return score == null ? null : new Entry(userId, score, competitionRank(score));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 정렬 순서상 offset번째(0부터)부터 limit개
+    public List<Entry> page(long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            List<Entry> entries = new ArrayList<>(Math.max(0, limit));
+            for (long i = offset; i < offset + limit && i < size(root); i++) {
+                Node node = select(root, i);
+                entries.add(new Entry(node.id, node.score, competitionRank(node.score)));
+            }
+            return entries;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 사용자 앞뒤로 radius명씩 (본인 포함). 없으면 빈 리스트
+    public List<Entry> around(long userId, int radius) {
+        lock.readLock().lock();
+        try {
+            Long score = scores.get(userId);
+            if (score == null) {
+                return List.of();
+            }
+            long position = countBefore(root, score, userId);
+            long from = Math.max(0, position - radius);
+            return page(from, (int) (position - from) + radius + 1);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 통째로 교체 (시작 시 적재 / 주기적 재동기화)
+    public void replaceAll(Map<Long, Long> newScores) {
+        Node newRoot = null;
+        for (Map.Entry<Long, Long> entry : newScores.entrySet()) {
+            newRoot = insert(newRoot, new Node(entry.getKey(), entry.getValue()));
+        }
+        lock.writeLock().lock();
+        try {
+            scores.clear();
+            scores.putAll(newScores);
+            root = newRoot;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private long competitionRank(long score) {
+        return countBefore(root, score, Long.MIN_VALUE) + 1;
+    }
+
+    // (score, id) 보다 앞에 오는 노드 수
+    private static long countBefore(Node node, long score, long id) {
+        long count = 0;
+        while (node != null) {
+            if (compare(node.score, node.id, score, id) < 0) {
+                count += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    private static Node select(Node node, long index) {
+        while (node != null) {
+            long leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+        throw new IndexOutOfBoundsException();
+    }
+
+    private static Node insert(Node node, Node inserted) {
+        if (node == null) {
+            return inserted;
+        }
+        if (inserted.priority > node.priority) {
+            Node[] parts = split(node, inserted.score, inserted.id);
+            inserted.left = parts[0];
+            inserted.right = parts[1];
+            return update(inserted);
+        }
+        if (compare(inserted.score, inserted.id, node.score, node.id) < 0) {
+            node.left = insert(node.left, inserted);
+        } else {
+            node.right = insert(node.right, inserted);
+        }
+        return update(node);
+    }
+
+    private static Node remove(Node node, long score, long id) {
+        if (node == null) {
+            return null;
+        }
+        int c = compare(score, id, node.score, node.id);
+        if (c == 0) {
+            return merge(node.left, node.right);
+        }
+        if (c < 0) {
+            node.left = remove(node.left, score, id);
+        } else {
+            node.right = remove(node.right, score, id);
+        }
+        return update(node);
+    }
+
+    // [0]: (score, id)보다 앞, [1]: 나머지
+    private static Node[] split(Node node, long score, long id) {
+        if (node == null) {
+            return new Node[2];
+        }
+        if (compare(node.score, node.id, score, id) < 0) {
+            Node[] parts = split(node.right, score, id);
+            node.right = parts[0];
+            parts[0] = update(node);
+            return parts;
+        }
+        Node[] parts = split(node.left, score, id);
+        node.left = parts[1];
+        parts[1] = update(node);
+        return parts;
+    }
+
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            return update(left);
+        }
+        right.left = merge(left, right.left);
+        return update(right);
+    }
+
+    private static Node update(Node node) {
+        node.size = size(node.left) + size(node.right) + 1;
+        return node;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    // 점수 높은 순, 동점이면 id 작은 순
+    private static int compare(long scoreA, long idA, long scoreB, long idB) {
+        if (scoreA != scoreB) {
+            return Long.compare(scoreB, scoreA);
+        }
+        return Long.compare(idA, idB);
+    }
+}
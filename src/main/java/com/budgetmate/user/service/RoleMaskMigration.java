@@ -0,0 +1,148 @@
+package com.budgetmate.user.service;
+
+import com.budgetmate.user.entity.Role;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+// 예전 @ElementCollection 테이블(user_roles)의 권한을 user.role_mask 로 옮김.
+// - ddl-auto=update 로 role_mask 컬럼이 추가되면 기존 행은 0 -> 여기서 채움.
+// - 권한마다 UPDATE 한번 (set 기반), 같은 비트는 다시 더하지 않으므로 중간에 실패해도 재실행 가능.
+// - 끝나면 user_roles -> user_roles_legacy 로 이름을 바꿔서 다음 기동부터는 건너뜀 (롤백용으로 데이터는 남겨둠).
+// - 빈 초기화 단계에서 실행 -> 웹 서버가 요청을 받기 전에 끝남 (role_mask=0 상태로 인증되는 구간 없음).
+//   ddl-auto가 role_mask 컬럼을 추가한 뒤여야 하므로 entityManagerFactory 이후로 순서 고정.
+// - 여러 인스턴스가 동시에 뜨면 MySQL named lock(GET_LOCK)으로 한 곳만 실행, 나머지는 기다렸다가 건너뜀.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@DependsOn("entityManagerFactory")
+@ConditionalOnProperty(name = "roles.migration.enabled", havingValue = "true", matchIfMissing = true)
+public class RoleMaskMigration implements InitializingBean {
+
+    static final String LEGACY_TABLE = "user_roles";
+    static final String RENAMED_TABLE = "user_roles_legacy";
+
+    // MOD(FLOOR(mask / bit), 2) = 0 : 아직 그 비트가 없는 행만 (MySQL/H2 공통 문법)
+    private static final String ADD_ROLE_BIT =
+            "UPDATE user SET role_mask = role_mask + ? " +
+            "WHERE MOD(FLOOR(role_mask / ?), 2) = 0 " +
+            "AND id IN (SELECT user_id FROM user_roles WHERE roles = ?)";
+
+    private static final String LOCK_NAME = "budgetmate.role_mask_migration";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // 다른 인스턴스가 이전 중일 때 기다리는 최대 시간
+    @Value("${roles.migration.lock-timeout-seconds:60}")
+    private int lockTimeoutSeconds;
+
+    @Override
+    public void afterPropertiesSet() {
+        migrate();
+    }
+
+    public void migrate() {
+        if (!tableExists(LEGACY_TABLE)) {
+            return;
+        }
+        // 락은 이 커넥션(세션)에 걸림 -> 실제 이전은 다른 커넥션에서 해도 됨
+        jdbcTemplate.execute((Connection connection) -> {
+            boolean locked = acquireLock(connection);
+            try {
+                migrateLocked();
+            } finally {
+                if (locked) {
+                    releaseLock(connection);
+                }
+            }
+            return null;
+        });
+    }
+
+    private void migrateLocked() {
+        // 락을 기다리는 동안 다른 인스턴스가 이미 끝냈을 수 있음
+        if (!tableExists(LEGACY_TABLE)) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        int updated = transactionTemplate.execute(status -> {
+            int rows = 0;
+            for (Role role : Role.values()) {
+                rows += jdbcTemplate.update(ADD_ROLE_BIT, role.getBit(), role.getBit(), role.getAuthority());
+            }
+            // 권한 행이 하나도 없던 사용자는 기존 기본값(ROLE_USER)
+            rows += jdbcTemplate.update("UPDATE user SET role_mask = ? WHERE role_mask = 0", Role.USER.getBit());
+            return rows;
+        });
+
+        List<String> unknown = jdbcTemplate.queryForList("SELECT DISTINCT roles FROM user_roles", String.class).stream()
+                .filter(name -> Role.fromAuthority(name) == null)
+                .toList();
+        if (!unknown.isEmpty()) {
+            log.warn("[RoleMaskMigration] Role enum에 없는 권한은 옮기지 않았습니다: {}", unknown);
+        }
+
+        if (tableExists(RENAMED_TABLE)) {
+            log.warn("[RoleMaskMigration] {} 가 이미 있어서 {} 이름을 바꾸지 않습니다.", RENAMED_TABLE, LEGACY_TABLE);
+        } else {
+            jdbcTemplate.execute("ALTER TABLE " + LEGACY_TABLE + " RENAME TO " + RENAMED_TABLE);
+        }
+        log.info("[RoleMaskMigration] user_roles -> role_mask 이전 완료: {} rows ({} ms)",
+                updated, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // MySQL이 아니면(H2 테스트 등) 인스턴스가 하나뿐이라고 보고 락 없이 진행
+    private boolean acquireLock(Connection connection) throws SQLException {
+        if (!"MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())) {
+            return false;
+        }
+        try (PreparedStatement ps = connection.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+            ps.setString(1, LOCK_NAME);
+            ps.setInt(2, lockTimeoutSeconds);
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next() && rs.getInt(1) == 1) {
+                    return true;
+                }
+            }
+        }
+        throw new IllegalStateException("[RoleMaskMigration] " + lockTimeoutSeconds + "초 안에 이전 락을 얻지 못했습니다: " + LOCK_NAME);
+    }
+
+    private void releaseLock(Connection connection) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            ps.setString(1, LOCK_NAME);
+            ps.executeQuery().close();
+        }
+    }
+
+    private boolean tableExists(String table) {
+        Boolean exists = jdbcTemplate.execute((Connection connection) -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            // MySQL은 소문자, H2는 대문자로 저장
+            for (String name : new String[]{table, table.toUpperCase()}) {
+                try (ResultSet tables = metaData.getTables(connection.getCatalog(), connection.getSchema(), name, new String[]{"TABLE"})) {
+                    if (tables.next()) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        });
+        return Boolean.TRUE.equals(exists);
+    }
+}
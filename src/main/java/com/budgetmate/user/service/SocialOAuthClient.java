@@ -0,0 +1,227 @@
+package com.budgetmate.user.service;
+
+import com.budgetmate.user.config.VirtualThreads;
+import com.budgetmate.user.dto.GoogleUserInfo;
+import com.budgetmate.user.dto.KakaoUserInfo;
+import com.budgetmate.user.metrics.AuthMetrics;
+import com.budgetmate.user.security.GoogleIdTokenVerifier;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.ApacheHttpClientObservationConvention;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// 카카오/구글 OAuth 호출을 한 곳에서 담당. provider 설정(client id, secret, redirect uri, 주소)과
+// 토큰 교환/사용자 정보 요청 형식은 여기에만 있음 -> 소셜 로그인(AsyncSocialLoginService)과 계정 연결(UserService)이 같이 사용.
+// 모든 호출은 커넥션 풀을 쓰는 async 클라이언트(OAuthClientConfig.oauthHttpClient)로 보냄 -> non-blocking (CompletableFuture). 동기로 필요한 쪽은 join.
+@Service
+@RequiredArgsConstructor
+public class SocialOAuthClient {
+
+    private static final TypeReference<Map<String, Object>> JSON_OBJECT = new TypeReference<>() {
+    };
+
+    private final CloseableHttpAsyncClient oauthHttpClient;
+    private final GoogleIdTokenVerifier googleIdTokenVerifier;
+    private final ObjectMapper objectMapper;
+    private final AuthMetrics authMetrics;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${kakao.client-id}")
+    private String kakaoClientId;
+
+    @Value("${kakao.redirect-uri}")
+    private String kakaoRedirectUri;
+
+    @Value("${google.client-id}")
+    private String googleClientId;
+
+    @Value("${google.client-secret}")
+    private String googleClientSecret;
+
+    @Value("${google.redirect-uri}")
+    private String googleRedirectUri;
+
+    // provider 주소. 테스트/부하테스트에서는 로컬 stub 서버로 바꿔서 사용.
+    @Value("${kakao.auth-base-url:https://kauth.kakao.com}")
+    private String kakaoAuthBaseUrl;
+
+    @Value("${kakao.api-base-url:https://kapi.kakao.com}")
+    private String kakaoApiBaseUrl;
+
+    @Value("${google.oauth-base-url:https://oauth2.googleapis.com}")
+    private String googleOAuthBaseUrl;
+
+    @Value("${google.api-base-url:https://www.googleapis.com}")
+    private String googleApiBaseUrl;
+
+    @Value("${google.id-token-verification.enabled:false}")
+    private boolean googleIdTokenVerificationEnabled;
+
+    // id_token 서명 검증(RSA + JWKS 갱신 시 HTTP) 전용. HTTP 클라이언트 I/O 스레드에서 돌리지 않음.
+    @Value("${oauth.async.verify-threads:2}")
+    private int verifyThreads;
+
+    @Value("${oauth.async.queue-capacity:200}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor verifyExecutor;
+
+    @PostConstruct
+    protected void init() {
+        this.verifyExecutor = new ThreadPoolExecutor(verifyThreads, verifyThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                VirtualThreads.threadFactory("social-login-verify-", false),
+                new ThreadPoolExecutor.AbortPolicy());
+        ExecutorServiceMetrics.monitor(meterRegistry, verifyExecutor, "social_login.verify");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        verifyExecutor.shutdown();
+    }
+
+    public CompletableFuture<KakaoUserInfo> kakaoUser(String code) {
+        return timed("token_exchange", "kakao", kakaoAccessToken(code))
+                .thenCompose(token -> timed("user_info", "kakao", kakaoUserInfo(token)));
+    }
+
+    public CompletableFuture<GoogleUserInfo> googleUser(String code) {
+        return timed("token_exchange", "google", googleTokenResponse(code))
+                .thenCompose(this::googleUserInfo);
+    }
+
+    private CompletableFuture<String> kakaoAccessToken(String code) {
+        SimpleHttpRequest request = SimpleRequestBuilder.post(kakaoAuthBaseUrl + "/oauth/token")
+                .addParameter("grant_type", "authorization_code")
+                .addParameter("client_id", kakaoClientId)
+                .addParameter("redirect_uri", kakaoRedirectUri)
+                .addParameter("code", code)
+                .build();
+
+        return send(request, "/oauth/token").thenApply(response -> {
+            if (response.getCode() == 400) {
+                throw new IllegalStateException("이미 사용된 인가 코드입니다.");
+            }
+            Map<String, Object> body = json(response);
+            if (response.getCode() / 100 != 2 || body.get("access_token") == null) {
+                throw new IllegalStateException("카카오 access_token 발급 실패: " + body);
+            }
+            return (String) body.get("access_token");
+        });
+    }
+
+    private CompletableFuture<KakaoUserInfo> kakaoUserInfo(String accessToken) {
+        return send(bearer(kakaoApiBaseUrl + "/v2/user/me", accessToken), "/v2/user/me")
+                .thenApply(response -> KakaoUserInfo.from(json(requireOk(response, "카카오 사용자 정보"))));
+    }
+
+    private CompletableFuture<Map<String, Object>> googleTokenResponse(String code) {
+        SimpleHttpRequest request = SimpleRequestBuilder.post(googleOAuthBaseUrl + "/token")
+                .addParameter("grant_type", "authorization_code")
+                .addParameter("client_id", googleClientId)
+                .addParameter("client_secret", googleClientSecret)
+                .addParameter("redirect_uri", googleRedirectUri)
+                .addParameter("code", code)
+                .build();
+
+        return send(request, "/token")
+                .thenApply(response -> json(requireOk(response, "구글 토큰 교환")));
+    }
+
+    // 토큰 교환 응답에 id_token이 있으면 로컬 검증으로 사용자 정보를 꺼내고 (userinfo 호출 생략),
+    // 비활성화돼 있거나 id_token에 email이 없으면 userinfo API를 호출함.
+    private CompletableFuture<GoogleUserInfo> googleUserInfo(Map<String, Object> tokenResponse) {
+        String idToken = (String) tokenResponse.get("id_token");
+        if (googleIdTokenVerificationEnabled && idToken != null) {
+            return CompletableFuture.supplyAsync(() -> authMetrics.record("social_login", "id_token_verify", "google",
+                            () -> googleIdTokenVerifier.verify(idToken)), verifyExecutor)
+                    .thenCompose(g -> g.getEmail() != null ? CompletableFuture.completedFuture(g) : fetchGoogleUserInfo(tokenResponse));
+        }
+        return fetchGoogleUserInfo(tokenResponse);
+    }
+
+    private CompletableFuture<GoogleUserInfo> fetchGoogleUserInfo(Map<String, Object> tokenResponse) {
+        SimpleHttpRequest request = bearer(googleApiBaseUrl + "/oauth2/v2/userinfo", (String) tokenResponse.get("access_token"));
+        return timed("user_info", "google", send(request, "/oauth2/v2/userinfo")
+                .thenApply(response -> GoogleUserInfo.from(json(requireOk(response, "구글 사용자 정보")))));
+    }
+
+    private static SimpleHttpRequest bearer(String url, String accessToken) {
+        return SimpleRequestBuilder.get(url)
+                .addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                .build();
+    }
+
+    // uriTemplate은 요청 지연시간 메트릭의 uri 태그 (host는 target.host 태그로 따로 붙음)
+    private CompletableFuture<SimpleHttpResponse> send(SimpleHttpRequest request, String uriTemplate) {
+        HttpClientContext context = HttpClientContext.create();
+        context.setAttribute(ApacheHttpClientObservationConvention.URI_TEMPLATE_ATTRIBUTE, uriTemplate);
+
+        CompletableFuture<SimpleHttpResponse> future = new CompletableFuture<>();
+        oauthHttpClient.execute(request, context, new FutureCallback<>() {
+            @Override
+            public void completed(SimpleHttpResponse response) {
+                future.complete(response);
+            }
+
+            @Override
+            public void failed(Exception e) {
+                future.completeExceptionally(e);
+            }
+
+            @Override
+            public void cancelled() {
+                future.cancel(false);
+            }
+        });
+        return future;
+    }
+
+    private static SimpleHttpResponse requireOk(SimpleHttpResponse response, String step) {
+        if (response.getCode() / 100 != 2) {
+            throw new IllegalStateException(step + " 실패: HTTP " + response.getCode());
+        }
+        return response;
+    }
+
+    // JSON은 UTF-8 -> Content-Type에 charset이 없어도 바이트 그대로 파싱
+    private Map<String, Object> json(SimpleHttpResponse response) {
+        byte[] body = response.getBodyBytes();
+        if (body == null) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(body, JSON_OBJECT);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // auth.stage 타이머에 기록 (완료 시점 기준)
+    private <T> CompletableFuture<T> timed(String stage, String provider, CompletableFuture<T> future) {
+        long start = System.nanoTime();
+        return future.whenComplete((result, error) -> authMetrics.record("social_login", stage, provider,
+                error == null ? AuthMetrics.SUCCESS : AuthMetrics.FAILURE, System.nanoTime() - start));
+    }
+}
@@ -0,0 +1,178 @@
+package com.budgetmate.user.service;
+
+import com.budgetmate.user.entity.RevokedToken;
+import com.budgetmate.user.repository.RevokedTokenRepository;
+import com.budgetmate.user.security.BloomFilter;
+import com.budgetmate.user.security.VerifiedToken;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+// jti 기반 토큰 revoke (로그아웃).
+// 요청마다 deny-list(DB)를 조회하지 않도록 메모리 Bloom filter를 먼저 확인함.
+// - filter에 없으면 revoke 되지 않은 토큰 확정 -> DB 조회 없음 (대부분의 요청)
+// - "있을 수도 있음"인 경우만 revoked_token 테이블에서 정확히 확인
+// - revoked_token 행은 토큰의 exp가 지나면 삭제, filter는 rebuild-interval마다 남은 행으로 다시 만듦 (만료된 비트 제거)
+// - 다른 인스턴스에서 revoke한 jti는 sync-interval마다 revokedAt 기준으로 가져와서 filter에 추가
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationService {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${revocation.enabled:true}")
+    private boolean enabled;
+
+    @Value("${revocation.expected-insertions:100000}")
+    private long expectedInsertions;
+
+    @Value("${revocation.false-positive-rate:0.001}")
+    private double falsePositiveRate;
+
+    // 다른 인스턴스의 커밋 지연/시계 차이를 흡수하기 위해 마지막 sync 시점보다 이만큼 앞에서부터 다시 읽음 (put은 멱등)
+    @Value("${revocation.sync-overlap:30s}")
+    private Duration syncOverlap;
+
+    private volatile BloomFilter filter;
+    private volatile BloomFilter rebuilding; // 재구성 중 revoke된 jti를 새 filter에도 넣기 위함
+    private volatile boolean loaded; // 첫 적재 전에는 filter를 믿을 수 없으므로 항상 DB 확인
+    private volatile Date lastSync;
+    private final AtomicLong entries = new AtomicLong();
+
+    private Counter absent;
+    private Counter revoked;
+    private Counter falsePositive;
+    private Counter unchecked;
+
+    @PostConstruct
+    protected void init() {
+        this.filter = BloomFilter.create(expectedInsertions, falsePositiveRate);
+        // 실측 false positive 비율 = checks{result=false_positive} / (checks{result=absent} + checks{result=false_positive})
+        this.absent = checks("absent");
+        this.revoked = checks("revoked");
+        this.falsePositive = checks("false_positive");
+        this.unchecked = checks("unchecked");
+        Gauge.builder("jwt.revocation.filter.memory", this, service -> service.filter.memoryBytes())
+                .description("revoke Bloom filter 비트 배열 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("jwt.revocation.filter.entries", entries, AtomicLong::get)
+                .description("현재 filter에 들어있는 jti 수")
+                .register(meterRegistry);
+        Gauge.builder("jwt.revocation.filter.expected_fpp", this, service -> service.filter.expectedFalsePositiveRate())
+                .description("채워진 비트 비율로 추정한 false positive 확률")
+                .register(meterRegistry);
+    }
+
+    private Counter checks(String result) {
+        return Counter.builder("jwt.revocation.checks")
+                .description("토큰 revoke 여부 확인 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    // 토큰을 exp까지 거부하도록 등록. jti가 없는(도입 전 발급) 토큰은 revoke 불가 -> false
+    public boolean revoke(VerifiedToken token) {
+        if (token.getTokenId() == null || token.getExpiresAt() == null) {
+            return false;
+        }
+        revokedTokenRepository.save(RevokedToken.builder()
+                .jti(token.getTokenId())
+                .userId(token.getUserId())
+                .expiresAt(Date.from(token.getExpiresAt()))
+                .revokedAt(new Date())
+                .build());
+        // DB 저장 후에 filter에 넣음 -> 재구성이 이 시점 이후에 시작하면 DB 조회 결과에 포함됨
+        add(token.getTokenId());
+        return true;
+    }
+
+    public boolean isRevoked(VerifiedToken token) {
+        if (!enabled || token.getTokenId() == null) {
+            return false;
+        }
+        if (loaded && !filter.mightContain(token.getTokenId())) {
+            absent.increment();
+            return false;
+        }
+        boolean denied = revokedTokenRepository.existsByJtiAndExpiresAtAfter(token.getTokenId(), new Date());
+        if (denied) {
+            revoked.increment();
+        } else if (loaded) {
+            falsePositive.increment();
+        } else {
+            unchecked.increment();
+        }
+        return denied;
+    }
+
+    // 만료된 행 삭제 후 남은 jti로 filter를 새로 만들어 교체
+    @Scheduled(initialDelayString = "${revocation.rebuild-interval:30m}", fixedDelayString = "${revocation.rebuild-interval:30m}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        Date now = new Date();
+        int purged = revokedTokenRepository.deleteExpired(now);
+
+        Date syncFrom = new Date(now.getTime() - syncOverlap.toMillis());
+        long expected = Math.max(expectedInsertions, revokedTokenRepository.count() * 2);
+        BloomFilter next = BloomFilter.create(expected, falsePositiveRate);
+        // rebuilding을 먼저 걸고 조회 -> 조회 이후에 revoke된 jti도 새 filter에 들어감
+        this.rebuilding = next;
+        List<String> active = revokedTokenRepository.findActiveJtis(now);
+        active.forEach(next::put);
+        this.filter = next;
+        this.rebuilding = null;
+        this.entries.set(active.size());
+        this.lastSync = syncFrom;
+        this.loaded = true;
+        log.info("[TokenRevocationService] filter 재구성 - jti {}건, 만료 삭제 {}건, {} bytes", active.size(), purged, next.memoryBytes());
+    }
+
+    // 다른 인스턴스에서 revoke한 jti를 가져옴
+    @Scheduled(initialDelayString = "${revocation.sync-interval:5s}", fixedDelayString = "${revocation.sync-interval:5s}")
+    public void sync() {
+        if (!enabled || !loaded) {
+            return;
+        }
+        Date now = new Date();
+        Date since = lastSync;
+        revokedTokenRepository.findJtisRevokedSince(since, now).forEach(this::add);
+        this.lastSync = new Date(now.getTime() - syncOverlap.toMillis());
+    }
+
+    private void add(String jti) {
+        BloomFilter current = filter;
+        if (!current.mightContain(jti)) {
+            entries.incrementAndGet();
+        }
+        current.put(jti);
+        BloomFilter next = rebuilding;
+        if (next != null) {
+            next.put(jti);
+        }
+    }
+}
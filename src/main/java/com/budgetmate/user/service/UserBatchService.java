@@ -0,0 +1,91 @@
+package com.budgetmate.user.service;
+
+import com.budgetmate.user.dto.UserProfile;
+import com.budgetmate.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+// 다른 서비스(budget, report 등)가 사용자 여러 명을 한번에 조회할 때 사용.
+// 중복 제거 -> chunk-size 단위 IN 쿼리 -> 요청 순서대로 정렬. point에는 아직 flush되지 않은 적립분도 더함.
+@Service
+@RequiredArgsConstructor
+public class UserBatchService {
+
+    private final UserRepository userRepository;
+    private final PointAccrualService pointAccrualService;
+
+    @Value("${user.batch.max-size:1000}")
+    private int maxSize;
+
+    // IN 절 하나에 넣는 개수 (DB 파라미터 수 제한 / 실행계획 캐시 고려)
+    @Value("${user.batch.chunk-size:500}")
+    private int chunkSize;
+
+    public record Result(List<UserProfile> users, List<Object> missing) {
+    }
+
+    public Result resolveByIds(List<Long> ids) {
+        return resolve(ids, userRepository::findProfilesByIdIn, UserProfile::getId);
+    }
+
+    // 이메일은 저장된 값과 정확히 같을 때만 찾음 (대소문자/공백 정규화 없음, missing에는 요청한 값 그대로).
+    // DB collation이 대소문자를 무시(MySQL *_ci)해서 다른 대소문자의 행이 와도 여기서 걸러냄 -> DB 종류와 무관하게 같은 결과.
+    public Result resolveByEmails(List<String> emails) {
+        return resolve(emails, userRepository::findProfilesByEmailIn, UserProfile::getEmail);
+    }
+
+    private <K> Result resolve(List<K> keys, Function<Collection<K>, List<UserProfile>> query, Function<UserProfile, K> keyOf) {
+        // 중복 제거 전에 먼저 확인 -> 아주 큰 요청으로 Set을 만들지 않음 (중복 포함 개수 기준)
+        if (keys.size() > maxSize) {
+            throw new IllegalArgumentException("한번에 조회할 수 있는 사용자는 최대 " + maxSize + "명입니다.");
+        }
+        LinkedHashSet<K> unique = new LinkedHashSet<>(keys.size() * 2);
+        for (K key : keys) {
+            if (key != null) {
+                unique.add(key);
+            }
+        }
+
+        Map<K, UserProfile> found = new HashMap<>(unique.size() * 2);
+        List<K> chunk = new ArrayList<>(Math.min(chunkSize, unique.size()));
+        for (K key : unique) {
+            chunk.add(key);
+            if (chunk.size() >= chunkSize) {
+                collect(query.apply(chunk), keyOf, found);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            collect(query.apply(chunk), keyOf, found);
+        }
+
+        List<UserProfile> users = new ArrayList<>(found.size());
+        List<Object> missing = new ArrayList<>();
+        for (K key : unique) {
+            UserProfile profile = found.get(key);
+            if (profile == null) {
+                missing.add(key);
+                continue;
+            }
+            long pending = pointAccrualService.pendingDelta(profile.getId());
+            users.add(pending == 0 ? profile : profile.withPoint(profile.getPoint() + pending));
+        }
+        return new Result(users, missing);
+    }
+
+    private static <K> void collect(List<UserProfile> profiles, Function<UserProfile, K> keyOf, Map<K, UserProfile> found) {
+        for (UserProfile profile : profiles) {
+            found.put(Objects.requireNonNull(keyOf.apply(profile)), profile);
+        }
+    }
+}
@@ -3,22 +3,102 @@ package com.budgetmate.user.service;
 import com.budgetmate.user.repository.UserRepository;
 import com.budgetmate.user.entity.User;
 import com.budgetmate.user.security.CustomUserDetails;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 @Service
 @RequiredArgsConstructor
 public class UserDetailsServiceImpl implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+
+    // DB 기반 principal 로컬 캐시. User를 저장하는 쪽(UserService.saveAndRefreshPrincipal)에서 refresh로 갱신함.
+    // 다른 인스턴스에서 바뀐 값은 ttl 이후에 반영됨.
+    @Value("${auth.principal-cache.enabled:true}")
+    private boolean cacheEnabled;
+
+    @Value("${auth.principal-cache.ttl:5m}")
+    private Duration cacheTtl;
+
+    @Value("${auth.principal-cache.max-size:10000}")
+    private long cacheMaxSize;
+
+    // 값 대신 future를 캐시 -> 같은 이메일 동시 조회는 먼저 온 요청의 DB 조회 하나만 기다림 (single-flight)
+    private AsyncCache<String, CustomUserDetails> principalCache;
+
+    @PostConstruct
+    protected void init() {
+        this.principalCache = Caffeine.newBuilder()
+                .expireAfterWrite(cacheTtl)
+                .maximumSize(cacheMaxSize)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, principalCache, "auth.principals");
+    }
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email)
+        if (!cacheEnabled) {
+            return load(email);
+        }
+        CompletableFuture<CustomUserDetails> cached = principalCache.getIfPresent(email);
+        if (cached != null) {
+            return join(cached);
+        }
+        // cache.get(email, loader)는 ConcurrentHashMap.compute 안(모니터 보유)에서 DB 조회를 하게 됨
+        // -> 가상 스레드가 캐리어 스레드에 고정(pinning)되므로 빈 future만 먼저 넣고 조회는 호출 스레드에서 함.
+        // 조회 중에 refresh()가 future를 교체하면 이 조회 결과는 캐시에 들어가지 않음 (옛 값으로 덮어쓰지 않음).
+        CompletableFuture<CustomUserDetails> loading = new CompletableFuture<>();
+        CompletableFuture<CustomUserDetails> existing = principalCache.asMap().putIfAbsent(email, loading);
+        if (existing != null) {
+            return join(existing);
+        }
+        try {
+            CustomUserDetails loaded = load(email);
+            loading.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            principalCache.asMap().remove(email, loading);
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    // User 저장 직후 호출 -> 캐시된 principal을 최신 값으로 교체.
+    public void refresh(User user) {
+        if (cacheEnabled) {
+            principalCache.put(user.getEmail(), CompletableFuture.completedFuture(new CustomUserDetails(user)));
+        }
+    }
+
+    private static CustomUserDetails join(CompletableFuture<CustomUserDetails> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private CustomUserDetails load(String email) {
+        return userRepository.findSummaryByEmail(email)
+                .map(CustomUserDetails::new)
                 .orElseThrow(() -> new UsernameNotFoundException("이메일을 찾을 수 없습니다: " + email));
-        return new CustomUserDetails(user);
     }
 }
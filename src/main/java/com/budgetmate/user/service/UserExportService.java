@@ -0,0 +1,134 @@
+package com.budgetmate.user.service;
+
+import com.budgetmate.user.entity.Role;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+// 사용자 전체/증분 덤프를 NDJSON(한 줄에 사용자 하나)으로 출력 스트림에 바로 씀.
+// - id 기준 keyset 페이지네이션 (WHERE id > 마지막 id ORDER BY id LIMIT chunk-size) -> OFFSET 없이 매 청크가 PK 범위 조회
+// - 엔티티/영속성 컨텍스트를 거치지 않고 JdbcTemplate 결과를 바로 JSON으로 씀 -> 메모리는 청크 하나 분량으로 고정
+// - 청크마다 짧은 쿼리 하나라서 긴 트랜잭션/커서를 잡고 있지 않음. 중간에 끊기면 마지막 id를 afterId로 넘겨 이어받기.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserExportService {
+
+    // 비밀번호 해시는 export 대상이 아님 (조회 자체를 하지 않음)
+    private static final String COLUMNS =
+            "id, email, user_name, login_type, social_id, role_mask, last_week, current_week, point, badge, created_at, updated_at";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${export.chunk-size:1000}")
+    private int chunkSize;
+
+    // createdSince / updatedSince : 해당 시각 이후(포함) 생성/수정된 사용자만. afterId : 이 id 다음부터.
+    public record Filter(long afterId, Instant createdSince, Instant updatedSince) {
+    }
+
+    private record Row(long id, String email, String userName, String loginType, String socialId,
+                       int roleMask, int lastWeek, int currentWeek, long point, int badge,
+                       Timestamp createdAt, Timestamp updatedAt) {
+    }
+
+    // 쓴 사용자 수를 반환
+    public long export(Filter filter, OutputStream out) throws IOException {
+        StringBuilder sql = new StringBuilder("SELECT ").append(COLUMNS).append(" FROM user WHERE id > ?");
+        List<Object> fixedArgs = new ArrayList<>();
+        if (filter.createdSince() != null) {
+            sql.append(" AND created_at >= ?");
+            fixedArgs.add(Timestamp.from(filter.createdSince()));
+        }
+        if (filter.updatedSince() != null) {
+            sql.append(" AND updated_at >= ?");
+            fixedArgs.add(Timestamp.from(filter.updatedSince()));
+        }
+        sql.append(" ORDER BY id LIMIT ?");
+        String query = sql.toString();
+
+        Counter exported = meterRegistry.counter("users.export.rows");
+        long written = 0;
+        long lastId = filter.afterId();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            while (true) {
+                Object[] args = new Object[fixedArgs.size() + 2];
+                args[0] = lastId;
+                for (int i = 0; i < fixedArgs.size(); i++) {
+                    args[i + 1] = fixedArgs.get(i);
+                }
+                args[args.length - 1] = chunkSize;
+
+                List<Row> rows = jdbcTemplate.query(query, UserExportService::mapRow, args);
+                for (Row row : rows) {
+                    write(generator, row);
+                }
+                generator.flush(); // 청크마다 클라이언트로 내보냄
+                written += rows.size();
+                exported.increment(rows.size());
+                if (rows.size() < chunkSize) {
+                    break;
+                }
+                lastId = rows.get(rows.size() - 1).id();
+            }
+        }
+        log.info("[UserExport] {}명 export 완료 (afterId={}, createdSince={}, updatedSince={})",
+                written, filter.afterId(), filter.createdSince(), filter.updatedSince());
+        return written;
+    }
+
+    private static Row mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new Row(rs.getLong("id"), rs.getString("email"), rs.getString("user_name"),
+                rs.getString("login_type"), rs.getString("social_id"), rs.getInt("role_mask"),
+                rs.getInt("last_week"), rs.getInt("current_week"), rs.getLong("point"), rs.getInt("badge"),
+                rs.getTimestamp("created_at"), rs.getTimestamp("updated_at"));
+    }
+
+    private static void write(JsonGenerator generator, Row row) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", row.id());
+        generator.writeStringField("email", row.email());
+        generator.writeStringField("userName", row.userName());
+        generator.writeStringField("loginType", row.loginType());
+        generator.writeStringField("socialId", row.socialId());
+        generator.writeArrayFieldStart("roles");
+        for (String role : Role.names(row.roleMask())) {
+            generator.writeString(role);
+        }
+        generator.writeEndArray();
+        generator.writeNumberField("lastWeek", row.lastWeek());
+        generator.writeNumberField("currentWeek", row.currentWeek());
+        generator.writeNumberField("point", row.point());
+        generator.writeNumberField("badge", row.badge());
+        writeInstant(generator, "createdAt", row.createdAt());
+        writeInstant(generator, "updatedAt", row.updatedAt());
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private static void writeInstant(JsonGenerator generator, String field, Timestamp value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(field);
+        } else {
+            generator.writeStringField(field, value.toInstant().toString());
+        }
+    }
+}
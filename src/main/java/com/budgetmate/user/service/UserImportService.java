@@ -0,0 +1,306 @@
+package com.budgetmate.user.service;
+
+import com.budgetmate.user.dto.UserImportReport;
+import com.budgetmate.user.dto.UserImportRow;
+import com.budgetmate.user.entity.LoginType;
+import com.budgetmate.user.entity.Role;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+// 레거시 시스템 사용자 벌크 import.
+// /user/signup 을 건건이 부르면 existsByEmail + BCrypt + 단건 insert(IDENTITY라 Hibernate 배치도 안됨)라 초당 수십 건 수준.
+// 여기서는 입력을 한 줄씩 읽어서 batch-size 단위 청크로 묶고, 청크마다
+//   1) 청크 안 중복 제거 + email IN (...) 한번으로 기존 사용자 걸러냄
+//   2) user 행(권한은 role_mask 컬럼)을 JdbcTemplate.batchUpdate 로 한번에 insert (청크당 트랜잭션 1개)
+// 입력 크기와 관계없이 메모리는 청크 하나 분량만 사용.
+// MySQL에서 실제 multi-row insert가 되려면 datasource url에 rewriteBatchedStatements=true 필요 (config server 설정).
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserImportService {
+
+    public enum Format { NDJSON, CSV }
+
+    private static final Pattern BCRYPT_HASH = Pattern.compile("^\\$2[aby]?\\$\\d{2}\\$[./A-Za-z0-9]{53}$");
+
+    private static final String INSERT_USER =
+            "INSERT INTO user (email, password, user_name, login_type, social_id, role_mask, last_week, current_week, point, rollover_week, badge, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, 0, 0, 0, 0, 0, ?, ?)";
+    private static final String SELECT_EXISTING = "SELECT email FROM user WHERE email IN (:emails)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${import.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${import.max-reported-errors:100}")
+    private int maxReportedErrors;
+
+    public UserImportReport importUsers(InputStream in, Format format) throws IOException {
+        long start = System.nanoTime();
+        Progress progress = new Progress(maxReportedErrors);
+        List<Candidate> chunk = new ArrayList<>(batchSize);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String[] header = null;
+        String line;
+        long lineNo = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNo++;
+            if (line.isBlank()) {
+                continue;
+            }
+            UserImportRow row;
+            if (format == Format.CSV) {
+                if (header == null) {
+                    header = parseCsvLine(line);
+                    continue;
+                }
+                row = toRow(header, parseCsvLine(line));
+            } else {
+                try {
+                    row = objectMapper.readValue(line, UserImportRow.class);
+                } catch (JsonProcessingException e) {
+                    progress.total++;
+                    progress.fail(lineNo, null, "JSON 파싱 실패: " + e.getOriginalMessage());
+                    continue;
+                }
+            }
+
+            progress.total++;
+            Candidate candidate = validate(lineNo, row, progress);
+            if (candidate != null) {
+                chunk.add(candidate);
+                if (chunk.size() >= batchSize) {
+                    flush(chunk, progress);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            flush(chunk, progress);
+        }
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("[UserImport] total={} inserted={} duplicates={} failed={} ({} ms)",
+                progress.total, progress.inserted, progress.duplicates, progress.failed, elapsedMillis);
+        return UserImportReport.builder()
+                .total(progress.total)
+                .inserted(progress.inserted)
+                .duplicates(progress.duplicates)
+                .failed(progress.failed)
+                .elapsedMillis(elapsedMillis)
+                .errors(progress.errors)
+                .errorsTruncated(progress.failed > progress.errors.size())
+                .build();
+    }
+
+    private Candidate validate(long line, UserImportRow row, Progress progress) {
+        String email = row.getEmail() != null ? row.getEmail().trim() : null;
+        if (email == null || email.isEmpty() || email.indexOf('@') < 1 || email.length() > 255) {
+            progress.fail(line, email, "이메일 형식 오류");
+            return null;
+        }
+
+        LoginType loginType;
+        try {
+            loginType = row.getLoginType() == null || row.getLoginType().isBlank()
+                    ? LoginType.LOCAL
+                    : LoginType.valueOf(row.getLoginType().trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            progress.fail(line, email, "알 수 없는 loginType: " + row.getLoginType());
+            return null;
+        }
+
+        String password = row.getPassword() == null || row.getPassword().isBlank() ? null : row.getPassword();
+        if (password != null && !BCRYPT_HASH.matcher(password).matches()) {
+            progress.fail(line, email, "password는 BCrypt 해시여야 합니다.");
+            return null;
+        }
+        if (loginType == LoginType.LOCAL && password == null) {
+            progress.fail(line, email, "LOCAL 계정은 password가 필요합니다.");
+            return null;
+        }
+        if (loginType != LoginType.LOCAL && (row.getSocialId() == null || row.getSocialId().isBlank())) {
+            progress.fail(line, email, "소셜 계정은 socialId가 필요합니다.");
+            return null;
+        }
+
+        int roleMask = Role.USER.getBit();
+        if (row.getRoles() != null && !row.getRoles().isEmpty()) {
+            roleMask = 0;
+            for (String name : row.getRoles()) {
+                Role role = Role.fromAuthority(name);
+                if (role == null) {
+                    progress.fail(line, email, "알 수 없는 role: " + name);
+                    return null;
+                }
+                roleMask |= role.getBit();
+            }
+        }
+
+        return new Candidate(line, email, password, row.getUserName(), loginType, row.getSocialId(), roleMask);
+    }
+
+    private void flush(List<Candidate> chunk, Progress progress) {
+        // 청크 안 중복 -> 먼저 나온 행만 남김
+        Map<String, Candidate> unique = new LinkedHashMap<>();
+        for (Candidate candidate : chunk) {
+            if (unique.putIfAbsent(candidate.email(), candidate) != null) {
+                progress.duplicates++;
+            }
+        }
+
+        // 이미 가입된 이메일 -> 중복으로 카운트
+        Set<String> existing = new HashSet<>(jdbcTemplate.queryForList(SELECT_EXISTING,
+                new MapSqlParameterSource("emails", unique.keySet()), String.class));
+        List<Candidate> fresh = new ArrayList<>(unique.size());
+        for (Candidate candidate : unique.values()) {
+            if (existing.contains(candidate.email())) {
+                progress.duplicates++;
+            } else {
+                fresh.add(candidate);
+            }
+        }
+        if (fresh.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(fresh));
+            progress.inserted += fresh.size();
+        } catch (DataIntegrityViolationException e) {
+            // 청크 조회 이후 같은 이메일이 /signup 으로 들어온 경우 등 -> 이 청크만 한 건씩 다시 넣어서 실패 행을 특정.
+            log.debug("[UserImport] 청크 batch insert 실패, 행 단위로 재시도: {}", e.getMessage());
+            for (Candidate candidate : fresh) {
+                insertOne(candidate, progress);
+            }
+        }
+    }
+
+    private void insertOne(Candidate candidate, Progress progress) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(List.of(candidate)));
+            progress.inserted++;
+        } catch (DuplicateKeyException e) {
+            progress.duplicates++;
+        } catch (DataAccessException e) {
+            progress.fail(candidate.line(), candidate.email(), "DB 저장 실패: " + e.getMostSpecificCause().getMessage());
+        }
+    }
+
+    private void insert(List<Candidate> candidates) {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        jdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_USER, candidates, candidates.size(), (ps, c) -> {
+            ps.setString(1, c.email());
+            ps.setString(2, c.password());
+            ps.setString(3, c.userName());
+            ps.setString(4, c.loginType().name());
+            ps.setString(5, c.socialId());
+            ps.setInt(6, c.roleMask());
+            ps.setTimestamp(7, now);
+            ps.setTimestamp(8, now);
+        });
+    }
+
+    // CSV 헤더 이름으로 컬럼을 찾음. roles 컬럼은 '|' 구분 (예: ROLE_USER|ROLE_ADMIN)
+    private static UserImportRow toRow(String[] header, String[] values) {
+        UserImportRow row = new UserImportRow();
+        for (int i = 0; i < header.length && i < values.length; i++) {
+            String value = values[i].isEmpty() ? null : values[i];
+            switch (header[i].trim()) {
+                case "email" -> row.setEmail(value);
+                case "password" -> row.setPassword(value);
+                case "userName", "user_name" -> row.setUserName(value);
+                case "loginType", "login_type" -> row.setLoginType(value);
+                case "socialId", "social_id" -> row.setSocialId(value);
+                case "roles" -> row.setRoles(value == null ? null : Arrays.asList(value.split("\\|")));
+                default -> { }
+            }
+        }
+        return row;
+    }
+
+    // RFC 4180 한 줄 파싱 (따옴표로 감싼 필드, "" 이스케이프). 필드 안 줄바꿈은 지원하지 않음.
+    static String[] parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char ch = line.charAt(i);
+            if (quoted) {
+                if (ch == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(ch);
+                }
+            } else if (ch == '"') {
+                quoted = true;
+            } else if (ch == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(ch);
+            }
+        }
+        fields.add(field.toString());
+        return fields.toArray(String[]::new);
+    }
+
+    private record Candidate(long line, String email, String password, String userName,
+                             LoginType loginType, String socialId, int roleMask) {
+    }
+
+    private static final class Progress {
+        private final int maxReportedErrors;
+        private final List<UserImportReport.RowError> errors = new ArrayList<>();
+        private long total;
+        private long inserted;
+        private long duplicates;
+        private long failed;
+
+        private Progress(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        private void fail(long line, String email, String reason) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new UserImportReport.RowError(line, email, reason));
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.budgetmate.user.service;
+
+// 이메일 인증코드 저장소. 기본은 인스턴스 로컬 메모리(InMemoryVerificationCodeStore),
+// 여러 인스턴스가 코드를 공유해야 하면 verification.store=jpa (JpaVerificationCodeStore).
+public interface VerificationCodeStore {
+
+    // 같은 이메일로 다시 저장하면 이전 코드와 시도 횟수는 덮어씀.
+    void save(String email, String code);
+
+    // 시도할 때마다 시도 횟수가 올라가고, 성공하거나 횟수를 넘기면 코드는 삭제됨.
+    VerificationResult verify(String email, String code);
+
+    void remove(String email);
+
+    enum VerificationResult {
+        VERIFIED,
+        NOT_FOUND,
+        EXPIRED,
+        MISMATCH,
+        TOO_MANY_ATTEMPTS
+    }
+}
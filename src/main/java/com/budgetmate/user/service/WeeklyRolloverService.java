@@ -0,0 +1,228 @@
+package com.budgetmate.user.service;
+
+import com.budgetmate.user.config.VirtualThreads;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.IsoFields;
+import java.util.UUID;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// 주간 롤오버: currentWeek -> lastWeek, currentWeek = 0, 조건을 만족하면 point 지급.
+// - 사용자를 하나씩 로드/저장하지 않고 id 범위(chunk-size)별 UPDATE 한 문장으로 처리, parallelism 개 스레드가 범위를 나눠서 실행.
+// - user.rollover_week < 대상 주차 인 행만 갱신하고 rollover_week를 대상 주차로 바꿈 -> 같은 범위를 다시 돌려도 결과가 같음.
+//   그래서 중간에 죽어도 다시 실행하면 남은 행만 처리됨 (재개 가능).
+// - weekly_rollover 테이블에 주차별 행을 먼저 insert한 인스턴스만 실행. lease가 끝난 RUNNING 행은 catch-up이 이어받음.
+// - 범위 상한은 시작 시점의 max(id)로 고정 -> 롤오버 도중 가입한 사용자는 이번 주차에 굴리지 않음.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WeeklyRolloverService {
+
+    // MySQL은 SET을 왼쪽부터 적용하고 뒤 식에서 바뀐 값을 보므로 current_week를 읽는 식을 먼저 둠.
+    // point 컬럼은 INT -> 지급액이 넘치면 청크 전체가 실패하므로 INT 최대값까지만 더함.
+    private static final String ROLLOVER_CHUNK =
+            "UPDATE user SET point = point + CASE WHEN current_week >= ? THEN LEAST(?, 2147483647 - point) ELSE 0 END, " +
+            "last_week = current_week, current_week = 0, rollover_week = ?, updated_at = ? " +
+            "WHERE id BETWEEN ? AND ? AND rollover_week < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${rollover.enabled:true}")
+    private boolean enabled;
+
+    @Value("${rollover.zone:Asia/Seoul}")
+    private String zone;
+
+    @Value("${rollover.chunk-size:10000}")
+    private int chunkSize;
+
+    @Value("${rollover.parallelism:4}")
+    private int parallelism;
+
+    @Value("${rollover.lease:5m}")
+    private Duration lease;
+
+    // 가상 스레드 모드에서도 동시 청크 수는 parallelism으로 제한 (DB 커넥션 풀 크기 안에서)
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    // currentWeek가 min-current-week 이상인 사용자에게 points 지급 (0이면 지급 없음)
+    @Value("${rollover.award.min-current-week:1}")
+    private int awardMinCurrentWeek;
+
+    @Value("${rollover.award.points:0}")
+    private int awardPoints;
+
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+
+    private Timer rolloverTimer;
+    private Counter rowsCounter;
+
+    public record RolloverResult(int weekId, boolean executed, long rowsUpdated, long elapsedMillis) {
+    }
+
+    // 롤오버가 끝나면 발행 (point, currentWeek가 대량으로 바뀜 -> 리더보드 재적재 등)
+    public record RolloverCompletedEvent(int weekId, long rowsUpdated) {
+    }
+
+    @PostConstruct
+    protected void init() {
+        this.rolloverTimer = Timer.builder("rollover.duration")
+                .description("주간 롤오버 소요 시간")
+                .register(meterRegistry);
+        this.rowsCounter = meterRegistry.counter("rollover.rows");
+    }
+
+    // 매주 월요일 0시 (rollover.zone 기준)
+    @Scheduled(cron = "${rollover.cron:0 0 0 * * MON}", zone = "${rollover.zone:Asia/Seoul}")
+    public void scheduledRollover() {
+        if (enabled) {
+            rollover(currentWeekId());
+        }
+    }
+
+    // 기동 직후 + 주기적으로: 놓친 주차나 lease가 끝난(죽은 인스턴스의) 롤오버를 이어서 실행.
+    @Scheduled(initialDelayString = "${rollover.catch-up-initial-delay:30s}", fixedDelayString = "${rollover.catch-up-interval:10m}")
+    public void catchUp() {
+        if (!enabled) {
+            return;
+        }
+        int currentWeek = currentWeekId();
+        Integer lastWeek = jdbcTemplate.queryForObject("SELECT MAX(week_id) FROM weekly_rollover", Integer.class);
+        if (lastWeek == null) {
+            // 처음 배포: 이번 주를 기준점으로만 기록 (주 중간에 전체 롤오버가 돌지 않도록)
+            try {
+                jdbcTemplate.update("INSERT INTO weekly_rollover (week_id, status, started_at, completed_at, rows_updated) VALUES (?, 'COMPLETED', ?, ?, 0)",
+                        currentWeek, now(), now());
+                log.info("[WeeklyRollover] 기준 주차 기록: {}", currentWeek);
+            } catch (DuplicateKeyException ignored) {
+                // 다른 인스턴스가 먼저 기록함
+            }
+            return;
+        }
+        if (lastWeek < currentWeek) {
+            rollover(currentWeek); // 여러 주를 놓쳤어도 한번만 굴림 (lastWeek = 마지막 활동 주)
+            return;
+        }
+        String status = jdbcTemplate.queryForObject("SELECT status FROM weekly_rollover WHERE week_id = ?", String.class, lastWeek);
+        if ("RUNNING".equals(status)) {
+            rollover(lastWeek); // lease가 살아 있으면 claim에서 건너뜀
+        }
+    }
+
+    public RolloverResult rollover(int weekId) {
+        long start = System.nanoTime();
+        Long maxUserId = claim(weekId);
+        if (maxUserId == null) {
+            return new RolloverResult(weekId, false, 0, 0);
+        }
+
+        Long minUserId = jdbcTemplate.queryForObject(
+                "SELECT MIN(id) FROM user WHERE id <= ? AND rollover_week < ?", Long.class, maxUserId, weekId);
+        long rows = minUserId == null ? 0 : updateChunks(weekId, minUserId, maxUserId);
+
+        jdbcTemplate.update("UPDATE weekly_rollover SET status = 'COMPLETED', completed_at = ?, rows_updated = rows_updated + ? WHERE week_id = ? AND owner = ?",
+                now(), rows, weekId, owner);
+
+        long elapsedNanos = System.nanoTime() - start;
+        rolloverTimer.record(Duration.ofNanos(elapsedNanos));
+        rowsCounter.increment(rows);
+        log.info("[WeeklyRollover] {} 주차 롤오버 완료: {} rows ({} ms)", weekId, rows, elapsedNanos / 1_000_000);
+        eventPublisher.publishEvent(new RolloverCompletedEvent(weekId, rows));
+        return new RolloverResult(weekId, true, rows, elapsedNanos / 1_000_000);
+    }
+
+    public int currentWeekId() {
+        LocalDate today = LocalDate.now(ZoneId.of(zone));
+        return today.get(IsoFields.WEEK_BASED_YEAR) * 100 + today.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
+    }
+
+    // 이 인스턴스가 실행권을 얻으면 처리할 id 상한을, 아니면 null.
+    private Long claim(int weekId) {
+        Timestamp now = now();
+        Timestamp leaseUntil = new Timestamp(now.getTime() + lease.toMillis());
+        Long maxUserId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM user", Long.class);
+        try {
+            jdbcTemplate.update("INSERT INTO weekly_rollover (week_id, status, owner, lease_until, max_user_id, started_at, rows_updated) VALUES (?, 'RUNNING', ?, ?, ?, ?, 0)",
+                    weekId, owner, leaseUntil, maxUserId == null ? 0L : maxUserId, now);
+            return maxUserId == null ? 0L : maxUserId;
+        } catch (DuplicateKeyException e) {
+            int taken = jdbcTemplate.update("UPDATE weekly_rollover SET owner = ?, lease_until = ? WHERE week_id = ? AND status = 'RUNNING' AND lease_until < ?",
+                    owner, leaseUntil, weekId, now);
+            if (taken == 0) {
+                return null; // 완료됐거나 다른 인스턴스가 실행 중
+            }
+            log.info("[WeeklyRollover] {} 주차 롤오버 이어받음", weekId);
+            return jdbcTemplate.queryForObject("SELECT max_user_id FROM weekly_rollover WHERE week_id = ?", Long.class, weekId);
+        }
+    }
+
+    private long updateChunks(int weekId, long minUserId, long maxUserId) {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, parallelism), VirtualThreads.threadFactory("weekly-rollover-", virtualThreads));
+        CompletionService<Integer> completion = new ExecutorCompletionService<>(executor);
+        try {
+            int chunks = 0;
+            for (long lo = minUserId; lo <= maxUserId; lo += chunkSize) {
+                long from = lo;
+                long to = Math.min(maxUserId, lo + chunkSize - 1);
+                completion.submit(() -> jdbcTemplate.update(ROLLOVER_CHUNK,
+                        awardMinCurrentWeek, awardPoints, weekId, now(), from, to, weekId));
+                chunks++;
+            }
+
+            long rows = 0;
+            long renewAt = System.nanoTime() + lease.toNanos() / 2;
+            for (int i = 0; i < chunks; i++) {
+                rows += completion.take().get();
+                if (System.nanoTime() >= renewAt) {
+                    renewLease(weekId);
+                    renewAt = System.nanoTime() + lease.toNanos() / 2;
+                }
+            }
+            return rows;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("주간 롤오버가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            // 이미 끝난 범위는 rollover_week가 바뀌었으므로 다음 catch-up에서 남은 행만 다시 처리됨
+            throw new IllegalStateException("주간 롤오버 청크 처리 실패", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void renewLease(int weekId) {
+        int renewed = jdbcTemplate.update("UPDATE weekly_rollover SET lease_until = ? WHERE week_id = ? AND owner = ?",
+                new Timestamp(System.currentTimeMillis() + lease.toMillis()), weekId, owner);
+        if (renewed == 0) {
+            // 다른 인스턴스가 이어받음. 갱신은 멱등이라 겹쳐도 결과는 같음.
+            log.warn("[WeeklyRollover] {} 주차 lease를 다른 인스턴스가 가져갔습니다.", weekId);
+        }
+    }
+
+    private static Timestamp now() {
+        return new Timestamp(System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,306 @@
+package com.budgetmate.user.perf;
+
+import com.budgetmate.user.config.VirtualThreads;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 인증 엔드포인트 혼합 부하 테스트. mvn -Pperf test 로만 실행됨 (기본 빌드에서는 perf 태그 제외).
+// 시스템 프로퍼티: perf.duration(30s), perf.warmup(10s), perf.concurrency(32), perf.users(100),
+//               perf.mix(login:40,me:40,signup:5,send-code:5,kakao:5,google:5)
+// 플랫폼/가상 스레드 비교: 같은 설정으로 -Dspring.threads.virtual.enabled=true 를 붙여 한번 더 실행 (JDK 21 이상)
+// 결과는 target/perf/auth-load-<시각>.json 에 endpoint별 처리량 + p50/p99/p999 로 기록.
+@Slf4j
+@Tag("perf")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("perf")
+class AuthLoadTest {
+
+    private static final String PASSWORD = "perf-password";
+
+    private static final OAuthStubServer oauthStub;
+    private static final GreenMail smtp;
+
+    static {
+        try {
+            oauthStub = new OAuthStubServer();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        smtp = new GreenMail(ServerSetupTest.SMTP.dynamicPort());
+        smtp.start();
+    }
+
+    @DynamicPropertySource
+    static void localStubs(DynamicPropertyRegistry registry) {
+        registry.add("kakao.auth-base-url", oauthStub::baseUrl);
+        registry.add("kakao.api-base-url", oauthStub::baseUrl);
+        registry.add("google.oauth-base-url", oauthStub::baseUrl);
+        registry.add("google.api-base-url", oauthStub::baseUrl);
+        registry.add("spring.mail.host", () -> "localhost");
+        registry.add("spring.mail.port", () -> smtp.getSmtp().getPort());
+    }
+
+    @AfterAll
+    static void stopStubs() {
+        oauthStub.close();
+        smtp.stop();
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsRequested;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final List<SeedUser> seedUsers = new ArrayList<>();
+
+    @Test
+    void mixedAuthWorkload() throws Exception {
+        Duration duration = DurationStyle.detectAndParse(System.getProperty("perf.duration", "30s"));
+        Duration warmup = DurationStyle.detectAndParse(System.getProperty("perf.warmup", "10s"));
+        int concurrency = Integer.getInteger("perf.concurrency", 32);
+        int users = Integer.getInteger("perf.users", 100);
+        Map<Operation, Integer> mix = parseMix(System.getProperty("perf.mix", "login:40,me:40,signup:5,send-code:5,kakao:5,google:5"));
+
+        for (int i = 0; i < users; i++) {
+            seedUsers.add(signupSeedUser());
+        }
+
+        run(mix, concurrency, warmup); // JIT/커넥션 풀 워밍업 결과는 버림
+        Map<Operation, Stats> results = run(mix, concurrency, duration);
+
+        Path report = writeReport(results, duration, concurrency, users, mix);
+        log.info("[AuthLoadTest] 결과 저장: {}", report.toAbsolutePath());
+        results.forEach((operation, stats) -> log.info("[AuthLoadTest] {}", stats.summary(operation, duration)));
+
+        for (Operation operation : mix.keySet()) {
+            assertThat(results.get(operation).success.sum()).as(operation.endpoint).isPositive();
+        }
+    }
+
+    private Map<Operation, Stats> run(Map<Operation, Integer> mix, int concurrency, Duration duration) throws InterruptedException {
+        Map<Operation, Stats> results = new LinkedHashMap<>();
+        mix.keySet().forEach(operation -> results.put(operation, new Stats()));
+        int totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            workers.execute(() -> {
+                while (System.nanoTime() < deadline) {
+                    Operation operation = pick(mix, totalWeight);
+                    Stats stats = results.get(operation);
+                    long start = System.nanoTime();
+                    boolean ok;
+                    try {
+                        ok = execute(operation);
+                    } catch (Exception e) {
+                        ok = false;
+                    }
+                    stats.latency.recordValue(Math.max(1, (System.nanoTime() - start) / 1_000)); // μs
+                    (ok ? stats.success : stats.errors).increment();
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS);
+        return results;
+    }
+
+    private boolean execute(Operation operation) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        SeedUser user = seedUsers.get(random.nextInt(seedUsers.size()));
+        HttpRequest request = switch (operation) {
+            case LOGIN -> post("/user/login", Map.of("email", user.email(), "password", PASSWORD));
+            case ME -> HttpRequest.newBuilder(uri("/user/me")).header("Authorization", "Bearer " + user.token()).GET().build();
+            case SIGNUP -> post("/user/signup", Map.of("email", uniqueEmail(), "password", PASSWORD, "userName", "load"));
+            case SEND_CODE -> post("/user/send-code", Map.of("email", uniqueEmail()));
+            // 코드 풀을 작게 잡아서 신규 가입 / 기존 소셜 사용자 로그인이 섞이게 함
+            case KAKAO -> HttpRequest.newBuilder(uri("/user/oauth/kakao?code=kakao-" + random.nextInt(1000))).GET().build();
+            case GOOGLE -> HttpRequest.newBuilder(uri("/user/oauth/google?code=google-" + random.nextInt(1000))).GET().build();
+        };
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        return response.statusCode() / 100 == 2;
+    }
+
+    private SeedUser signupSeedUser() throws Exception {
+        String email = uniqueEmail();
+        HttpResponse<String> response = httpClient.send(
+                post("/user/signup", Map.of("email", email, "password", PASSWORD, "userName", "seed")),
+                HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).isEqualTo(200);
+        String token = objectMapper.readTree(response.body()).path("token").asText();
+        return new SeedUser(email, token);
+    }
+
+    private HttpRequest post(String path, Map<String, String> body) throws IOException {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private Path writeReport(Map<Operation, Stats> results, Duration duration, int concurrency, int users,
+                             Map<Operation, Integer> mix) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", Instant.now().toString());
+        report.put("javaVersion", System.getProperty("java.version"));
+        // JDK 21 미만이면 프로퍼티를 켜도 플랫폼 스레드로 돌았으므로 실제 모드를 기록
+        report.put("virtualThreads", VirtualThreads.isActive(virtualThreadsRequested));
+        report.put("durationSeconds", duration.toSeconds());
+        report.put("concurrency", concurrency);
+        report.put("seedUsers", users);
+        Map<String, Integer> mixReport = new LinkedHashMap<>();
+        mix.forEach((operation, weight) -> mixReport.put(operation.endpoint, weight));
+        report.put("mix", mixReport);
+
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        results.forEach((operation, stats) -> endpoints.put(operation.endpoint, stats.toReport(duration)));
+        report.put("endpoints", endpoints);
+
+        Path dir = Path.of("target", "perf");
+        Files.createDirectories(dir);
+        String stamp = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC).format(Instant.now());
+        Path file = dir.resolve("auth-load-" + stamp + ".json");
+        objectMapper.writeValue(file.toFile(), report);
+        return file;
+    }
+
+    private static Map<Operation, Integer> parseMix(String spec) {
+        Map<Operation, Integer> mix = new LinkedHashMap<>();
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split(":");
+            int weight = Integer.parseInt(parts[1]);
+            if (weight > 0) {
+                mix.put(Operation.of(parts[0]), weight);
+            }
+        }
+        return mix;
+    }
+
+    private static Operation pick(Map<Operation, Integer> mix, int totalWeight) {
+        int value = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            value -= entry.getValue();
+            if (value < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    private static String uniqueEmail() {
+        return "load-" + UUID.randomUUID() + "@perf.budgetmate";
+    }
+
+    private record SeedUser(String email, String token) {
+    }
+
+    private enum Operation {
+        LOGIN("login", "POST /user/login"),
+        ME("me", "GET /user/me"),
+        SIGNUP("signup", "POST /user/signup"),
+        SEND_CODE("send-code", "POST /user/send-code"),
+        KAKAO("kakao", "GET /user/oauth/kakao"),
+        GOOGLE("google", "GET /user/oauth/google");
+
+        private final String key;
+        private final String endpoint;
+
+        Operation(String key, String endpoint) {
+            this.key = key;
+            this.endpoint = endpoint;
+        }
+
+        static Operation of(String key) {
+            for (Operation operation : values()) {
+                if (operation.key.equals(key)) {
+                    return operation;
+                }
+            }
+            throw new IllegalArgumentException("알 수 없는 작업: " + key);
+        }
+    }
+
+    private static class Stats {
+        private final Recorder latency = new Recorder(3);
+        private final LongAdder success = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private Histogram snapshot;
+
+        private Histogram histogram() {
+            if (snapshot == null) {
+                snapshot = latency.getIntervalHistogram();
+            }
+            return snapshot;
+        }
+
+        Map<String, Object> toReport(Duration duration) {
+            Histogram histogram = histogram();
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("requests", success.sum() + errors.sum());
+            report.put("errors", errors.sum());
+            report.put("throughputPerSecond", (success.sum() + errors.sum()) / (double) duration.toSeconds());
+            report.put("p50Millis", histogram.getValueAtPercentile(50) / 1000.0);
+            report.put("p99Millis", histogram.getValueAtPercentile(99) / 1000.0);
+            report.put("p999Millis", histogram.getValueAtPercentile(99.9) / 1000.0);
+            report.put("maxMillis", histogram.getMaxValue() / 1000.0);
+            return report;
+        }
+
+        String summary(Operation operation, Duration duration) {
+            Map<String, Object> report = toReport(duration);
+            return String.format("%-24s %s", operation.endpoint, report);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.budgetmate.user.perf;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+
+// 카카오/구글 토큰 교환 + 사용자 정보 API stub.
+// 인가 코드를 그대로 access_token으로 돌려주고, 사용자 정보는 그 토큰에서 만들어냄 -> 코드마다 다른 사용자.
+class OAuthStubServer implements AutoCloseable {
+
+    private final HttpServer server;
+
+    OAuthStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newFixedThreadPool(16));
+
+        server.createContext("/oauth/token", exchange -> respond(exchange, "{\"access_token\":\"" + code(exchange) + "\"}"));
+        server.createContext("/v2/user/me", exchange -> {
+            String token = bearer(exchange);
+            respond(exchange, "{\"id\":\"" + token + "\",\"kakao_account\":{\"email\":\"" + token + "@kakao.perf\","
+                    + "\"profile\":{\"nickname\":\"kakao-" + token + "\"}}}");
+        });
+        server.createContext("/token", exchange -> respond(exchange, "{\"access_token\":\"" + code(exchange) + "\"}"));
+        server.createContext("/oauth2/v2/userinfo", exchange -> {
+            String token = bearer(exchange);
+            respond(exchange, "{\"id\":\"" + token + "\",\"email\":\"" + token + "@google.perf\",\"name\":\"google-" + token + "\"}");
+        });
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private static String code(HttpExchange exchange) throws IOException {
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        for (String pair : body.split("&")) {
+            if (pair.startsWith("code=")) {
+                return URLDecoder.decode(pair.substring(5), StandardCharsets.UTF_8);
+            }
+        }
+        return "unknown";
+    }
+
+    private static String bearer(HttpExchange exchange) {
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        return authorization == null ? "unknown" : authorization.substring("Bearer ".length());
+    }
+
+    private static void respond(HttpExchange exchange, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.budgetmate.user.repository;
+
+import com.budgetmate.user.dto.UserSummary;
+import com.budgetmate.user.entity.Role;
+import com.budgetmate.user.entity.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:repository;DB_CLOSE_DELAY=-1;NON_KEYWORDS=USER",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class UserRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void findSummaryByEmailReturnsProjectionWithConvertedRoles() {
+        User saved = userRepository.save(User.builder()
+                .email("summary@test.com")
+                .password("hash")
+                .userName("요약")
+                .roles(List.of("ROLE_ADMIN", "ROLE_USER"))
+                .build());
+
+        UserSummary summary = userRepository.findSummaryByEmail("summary@test.com").orElseThrow();
+
+        assertThat(summary.getId()).isEqualTo(saved.getId());
+        assertThat(summary.getEmail()).isEqualTo("summary@test.com");
+        assertThat(summary.getUserName()).isEqualTo("요약");
+        assertThat(summary.getRoles()).isSameAs(Role.names(Role.USER.getBit() | Role.ADMIN.getBit()));
+        assertThat(userRepository.findSummaryByEmail("missing@test.com")).isEmpty();
+    }
+}
@@ -0,0 +1,79 @@
+package com.budgetmate.user.security;
+
+import com.budgetmate.user.dto.GoogleUserInfo;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.PublicJwk;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.time.Duration;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GoogleIdTokenVerifierTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final KeyPair keyPair = Jwts.SIG.RS256.keyPair().build();
+    private GoogleIdTokenVerifier verifier;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        PublicJwk<?> jwk = Jwks.builder().key(keyPair.getPublic()).id("test-kid").build();
+        Path jwks = tempDir.resolve("certs.json");
+        Files.writeString(jwks, "{\"keys\":[" + Jwks.json(jwk) + "]}");
+
+        verifier = new GoogleIdTokenVerifier(new RestTemplate(), new DefaultResourceLoader());
+        ReflectionTestUtils.setField(verifier, "googleClientId", "client-id");
+        ReflectionTestUtils.setField(verifier, "jwksUri", jwks.toUri().toString());
+        ReflectionTestUtils.setField(verifier, "jwksRefreshInterval", Duration.ofHours(1));
+        ReflectionTestUtils.setField(verifier, "jwksMinRefreshInterval", Duration.ofMinutes(1));
+        verifier.init();
+    }
+
+    @Test
+    void verifiesIdTokenAgainstLocalJwks() {
+        GoogleUserInfo info = verifier.verify(idToken("test-kid", "https://accounts.google.com", "client-id"));
+
+        assertThat(info.getId()).isEqualTo("google-sub");
+        assertThat(info.getEmail()).isEqualTo("user@example.com");
+        assertThat(info.getName()).isEqualTo("홍길동");
+    }
+
+    @Test
+    void rejectsWrongAudienceIssuerOrKey() {
+        assertThatThrownBy(() -> verifier.verify(idToken("test-kid", "https://accounts.google.com", "other-client")))
+                .isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> verifier.verify(idToken("test-kid", "https://evil.example.com", "client-id")))
+                .isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> verifier.verify(idToken("unknown-kid", "https://accounts.google.com", "client-id")))
+                .isInstanceOf(JwtException.class);
+    }
+
+    private String idToken(String kid, String issuer, String audience) {
+        Date now = new Date();
+        return Jwts.builder()
+                .header().keyId(kid).and()
+                .subject("google-sub")
+                .issuer(issuer)
+                .audience().add(audience).and()
+                .claim("email", "user@example.com")
+                .claim("name", "홍길동")
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + 60_000))
+                .signWith(keyPair.getPrivate())
+                .compact();
+    }
+}
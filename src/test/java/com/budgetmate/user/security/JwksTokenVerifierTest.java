@@ -0,0 +1,143 @@
+package com.budgetmate.user.security;
+
+import com.budgetmate.user.metrics.AuthMetrics;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwksTokenVerifierTest {
+
+    private static final String SECRET = "budgetmate-test-secret-key-0123456789abcdef";
+
+    @TempDir
+    Path tempDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private Path keyFile;
+    private JwtSigningKeys signingKeys;
+    private VerifiedTokenCache cache;
+    private JwtTokenProvider provider;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        keyFile = tempDir.resolve("jwt-keys.json");
+        writeKeys(privateJwk("k1", Jwts.SIG.RS256.keyPair().build()));
+
+        cache = new VerifiedTokenCache(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "maxMemory", DataSize.ofMegabytes(1));
+        cache.init();
+
+        signingKeys = new JwtSigningKeys(new DefaultResourceLoader(), event -> {
+            if (event instanceof JwtSigningKeys.VerificationKeysRemovedEvent removed) {
+                cache.onVerificationKeysRemoved(removed);
+            }
+        });
+        ReflectionTestUtils.setField(signingKeys, "algorithm", "RS256");
+        ReflectionTestUtils.setField(signingKeys, "keySetLocation", keyFile.toUri().toString());
+        signingKeys.init();
+
+        provider = new JwtTokenProvider(null, cache, new AuthMetrics(new SimpleMeterRegistry()), signingKeys);
+        ReflectionTestUtils.setField(provider, "secretKey", SECRET);
+        ReflectionTestUtils.setField(provider, "acceptLegacyHmac", true);
+        provider.init();
+    }
+
+    @Test
+    void siblingServiceVerifiesWithPublishedKeysAcrossRotation() throws Exception {
+        String first = provider.createToken(1L, "user@test.com", List.of("ROLE_USER"));
+        assertThat(header(first).path("kid").asText()).isEqualTo("k1");
+        assertThat(header(first).path("alg").asText()).isEqualTo("RS256");
+        assertThat(provider.verify(first).getEmail()).isEqualTo("user@test.com");
+
+        String jwks = signingKeys.current().jwks();
+        assertThat(objectMapper.readTree(jwks).path("keys").get(0).has("d")).isFalse(); // private 멤버는 공개하지 않음
+
+        JwksTokenVerifier verifier = new JwksTokenVerifier(() -> signingKeys.current().jwks(), Duration.ofHours(1), Duration.ZERO);
+        VerifiedToken verified = verifier.verify(first);
+        assertThat(verified.getUserId()).isEqualTo(1L);
+        assertThat(verified.getRoles()).containsExactly("ROLE_USER");
+
+        // 로테이션: 새 키를 앞에 추가, 이전 키는 검증용 public만 남김
+        Map<String, Object> previous = objectMapper.readValue(jwks, Map.class);
+        Map<?, ?> previousPublic = (Map<?, ?>) ((List<?>) previous.get("keys")).get(0);
+        writeKeys(privateJwk("k2", Jwts.SIG.RS256.keyPair().build()), previousPublic);
+        signingKeys.reload();
+        assertThat(signingKeys.current().signingKid()).isEqualTo("k2");
+
+        String second = provider.createToken(2L, "other@test.com", List.of("ROLE_USER"));
+        assertThat(provider.verify(first)).isNotNull();
+        assertThat(provider.verify(second)).isNotNull();
+        assertThat(verifier.verify(second).getEmail()).isEqualTo("other@test.com"); // 모르는 kid -> 키셋 다시 읽음
+        assertThat(verifier.verify(first).getEmail()).isEqualTo("user@test.com");
+    }
+
+    @Test
+    void tokensSignedWithARemovedKeyStopVerifyingImmediately() throws Exception {
+        String first = provider.createToken(1L, "user@test.com", List.of("ROLE_USER"));
+        assertThat(provider.verify(first)).isNotNull();
+        assertThat(cache.size()).isEqualTo(1);
+
+        // k1을 검증 목록에서도 빼고 k2로 교체 (키 유출 등) -> 캐시에 남은 k1 토큰도 바로 거절돼야 함
+        writeKeys(privateJwk("k2", Jwts.SIG.RS256.keyPair().build()));
+        signingKeys.reload();
+
+        assertThat(cache.size()).isZero();
+        assertThat(provider.verify(first)).isNull();
+        assertThat(provider.verify(provider.createToken(2L, "other@test.com", List.of("ROLE_USER")))).isNotNull();
+    }
+
+    @Test
+    void legacyHmacTokensAreAcceptedOnlyWhileEnabled() {
+        ReflectionTestUtils.setField(cache, "enabled", false); // 설정을 바꿔가며 검증 -> 캐시된 결과를 보지 않도록
+        Date now = new Date();
+        String legacy = Jwts.builder().subject("legacy@test.com").claim("id", 3).claim("roles", List.of("ROLE_USER"))
+                .issuedAt(now).expiration(new Date(now.getTime() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        assertThat(provider.verify(legacy).getEmail()).isEqualTo("legacy@test.com");
+
+        ReflectionTestUtils.setField(provider, "acceptLegacyHmac", false);
+        assertThat(provider.verify(legacy)).isNull();
+    }
+
+    private JsonNode header(String token) throws Exception {
+        return objectMapper.readTree(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))));
+    }
+
+    private void writeKeys(Object... keys) throws Exception {
+        Files.writeString(keyFile, objectMapper.writeValueAsString(Map.of("keys", List.of(keys))));
+    }
+
+    // jjwt는 private 멤버를 Supplier로 감싸서(redacted) 들고 있으므로 풀어서 직렬화
+    private static Map<String, Object> privateJwk(String kid, KeyPair pair) {
+        Jwk<?> jwk = Jwks.builder().keyPair(pair).id(kid).build();
+        Map<String, Object> json = new LinkedHashMap<>();
+        jwk.forEach((name, value) -> json.put(name, value instanceof io.jsonwebtoken.lang.Supplier<?> supplier ? supplier.get() : value));
+        return json;
+    }
+}
@@ -0,0 +1,101 @@
+package com.budgetmate.user.security;
+
+import com.budgetmate.user.config.RateLimitProperties;
+import com.budgetmate.user.config.RateLimitProperties.EndpointLimit;
+import com.budgetmate.user.config.RateLimitProperties.Limit;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setEndpoints(Map.of("/user/login",
+                new EndpointLimit(new Limit(3, Duration.ofMinutes(1)), new Limit(2, Duration.ofMinutes(1)))));
+        filter = new RateLimitFilter(properties, new ObjectMapper(), new SimpleMeterRegistry());
+        filter.init();
+    }
+
+    @Test
+    void limitsPerNormalizedEmailAndPassesTheBodyThrough() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        assertThat(login("10.0.0.1", "a@test.com", chain).getStatus()).isEqualTo(200);
+        // 컨트롤러(@RequestBody)가 필터에서 읽은 바디를 다시 읽을 수 있어야 함
+        byte[] forwarded = chain.getRequest().getInputStream().readAllBytes();
+        assertThat(new String(forwarded, StandardCharsets.UTF_8)).contains("a@test.com");
+
+        assertThat(login("10.0.0.2", " A@Test.com ", new MockFilterChain()).getStatus()).isEqualTo(200);
+
+        // IP가 달라도 같은 이메일(대소문자/공백 무시)이면 같은 버킷
+        MockHttpServletResponse rejected = login("10.0.0.3", "A@TEST.COM", new MockFilterChain());
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader("Retry-After")).isNotNull();
+
+        assertThat(login("10.0.0.3", "b@test.com", new MockFilterChain()).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void limitsPerClientIp() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertThat(login("10.0.0.9", "user" + i + "@test.com", new MockFilterChain()).getStatus()).isEqualTo(200);
+        }
+        assertThat(login("10.0.0.9", "other@test.com", new MockFilterChain()).getStatus()).isEqualTo(429);
+        assertThat(login("10.0.0.10", "other@test.com", new MockFilterChain()).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void cachedBodySupportsReadListener() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        login("10.0.0.20", "async@test.com", chain);
+
+        ServletInputStream in = chain.getRequest().getInputStream();
+        List<String> events = new ArrayList<>();
+        in.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                events.add("data:" + new String(in.readAllBytes(), StandardCharsets.UTF_8).contains("async@test.com"));
+            }
+
+            @Override
+            public void onAllDataRead() {
+                events.add("done");
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                events.add("error");
+            }
+        });
+
+        assertThat(events).containsExactly("data:true", "done");
+    }
+
+    private MockHttpServletResponse login(String ip, String email, MockFilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/user/login");
+        request.setRemoteAddr(ip);
+        request.setContentType("application/json");
+        request.setContent(("{\"email\":\"" + email + "\",\"password\":\"pw\"}").getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
@@ -0,0 +1,47 @@
+package com.budgetmate.user.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void allowsBurstUpToCapacityThenRefillsOneTokenPerInterval() {
+        TokenBucket bucket = new TokenBucket();
+        long start = 1_000 * SECOND;
+
+        // capacity 3, 토큰 하나당 1초 -> 처음엔 3개까지 한꺼번에 허용
+        for (int i = 0; i < 3; i++) {
+            assertThat(bucket.tryConsume(start, SECOND, 3)).isZero();
+        }
+        assertThat(bucket.tryConsume(start, SECOND, 3)).isEqualTo(SECOND); // 다음 토큰까지 1초
+
+        // 1초 뒤에는 정확히 한개만 다시 허용
+        assertThat(bucket.tryConsume(start + SECOND, SECOND, 3)).isZero();
+        assertThat(bucket.tryConsume(start + SECOND, SECOND, 3)).isEqualTo(SECOND);
+
+        // 0.5초 뒤 거절 -> 남은 시간은 0.5초
+        assertThat(bucket.tryConsume(start + SECOND + SECOND / 2, SECOND, 3)).isEqualTo(SECOND / 2);
+    }
+
+    @Test
+    void idleTimeRefillsAtMostToCapacity() {
+        TokenBucket bucket = new TokenBucket();
+        long start = 1_000 * SECOND;
+        for (int i = 0; i < 3; i++) {
+            bucket.tryConsume(start, SECOND, 3);
+        }
+
+        // 오래 쉬어도 쌓이는 건 capacity(3)까지
+        long later = start + 100 * SECOND;
+        for (int i = 0; i < 3; i++) {
+            assertThat(bucket.tryConsume(later, SECOND, 3)).isZero();
+        }
+        assertThat(bucket.tryConsume(later, SECOND, 3)).isPositive();
+    }
+}
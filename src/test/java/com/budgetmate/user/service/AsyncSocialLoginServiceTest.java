@@ -0,0 +1,172 @@
+package com.budgetmate.user.service;
+
+import com.budgetmate.user.config.OAuthClientConfig;
+import com.budgetmate.user.dto.GoogleUserInfo;
+import com.budgetmate.user.dto.SocialLoginResult;
+import com.budgetmate.user.dto.SocialUserInfo;
+import com.budgetmate.user.entity.LoginType;
+import com.budgetmate.user.entity.User;
+import com.budgetmate.user.metrics.AuthMetrics;
+import com.budgetmate.user.security.GoogleIdTokenVerifier;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.io.CloseMode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AsyncSocialLoginServiceTest {
+
+    private HttpServer provider;
+    private UserService userService;
+    private GoogleIdTokenVerifier googleIdTokenVerifier;
+    private final SimpleMeterRegistry httpMetrics = new SimpleMeterRegistry();
+    private CloseableHttpAsyncClient httpClient;
+    private SocialOAuthClient client;
+    private AsyncSocialLoginService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        provider = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        provider.createContext("/oauth/token", exchange -> {
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            if (body.contains("code=used")) {
+                respond(exchange, 400, "{\"error\":\"invalid_grant\"}");
+            } else {
+                respond(exchange, 200, "{\"access_token\":\"kakao-token\"}");
+            }
+        });
+        provider.createContext("/v2/user/me", exchange -> respond(exchange, 200,
+                "{\"id\":1234,\"kakao_account\":{\"email\":\"k@test.com\",\"profile\":{\"nickname\":\"카카오\"}}}"));
+        provider.createContext("/google/token", exchange -> respond(exchange, 200,
+                "{\"access_token\":\"google-token\",\"id_token\":\"id-token\"}"));
+        provider.start();
+        String baseUrl = "http://localhost:" + provider.getAddress().getPort();
+
+        userService = Mockito.mock(UserService.class);
+        googleIdTokenVerifier = Mockito.mock(GoogleIdTokenVerifier.class);
+        OAuthClientConfig clientConfig = new OAuthClientConfig();
+        ReflectionTestUtils.setField(clientConfig, "connectTimeout", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(clientConfig, "readTimeout", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(clientConfig, "maxConnections", 4);
+        ReflectionTestUtils.setField(clientConfig, "maxConnectionsPerRoute", 2);
+        ReflectionTestUtils.setField(clientConfig, "idleTimeout", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(clientConfig, "connectionRequestTimeout", Duration.ofSeconds(1));
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(httpMetrics));
+        httpClient = clientConfig.oauthHttpClient(observationRegistry, httpMetrics);
+
+        client = new SocialOAuthClient(httpClient, googleIdTokenVerifier, new ObjectMapper(),
+                new AuthMetrics(new SimpleMeterRegistry()), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(client, "kakaoClientId", "client");
+        ReflectionTestUtils.setField(client, "kakaoRedirectUri", "http://localhost/oauth/kakao");
+        ReflectionTestUtils.setField(client, "kakaoAuthBaseUrl", baseUrl);
+        ReflectionTestUtils.setField(client, "kakaoApiBaseUrl", baseUrl);
+        ReflectionTestUtils.setField(client, "googleClientId", "client");
+        ReflectionTestUtils.setField(client, "googleClientSecret", "secret");
+        ReflectionTestUtils.setField(client, "googleRedirectUri", "http://localhost/oauth/google");
+        ReflectionTestUtils.setField(client, "googleOAuthBaseUrl", baseUrl + "/google");
+        ReflectionTestUtils.setField(client, "googleIdTokenVerificationEnabled", true);
+        ReflectionTestUtils.setField(client, "verifyThreads", 1);
+        ReflectionTestUtils.setField(client, "queueCapacity", 10);
+        client.init();
+
+        service = new AsyncSocialLoginService(client, userService, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "repositoryThreads", 1);
+        ReflectionTestUtils.setField(service, "queueCapacity", 10);
+        service.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+        client.shutdown();
+        httpClient.close(CloseMode.IMMEDIATE);
+        provider.stop(0);
+    }
+
+    @Test
+    void runsOnlyTheRepositoryStepOnTheBoundedExecutor() throws Exception {
+        AtomicReference<String> repositoryThread = new AtomicReference<>();
+        AtomicReference<SocialUserInfo> resolved = new AtomicReference<>();
+        User user = User.builder().id(1L).email("k@test.com").userName("카카오").build();
+        Mockito.when(userService.processSocialLogin(Mockito.any(), Mockito.eq(LoginType.KAKAO))).thenAnswer(invocation -> {
+            repositoryThread.set(Thread.currentThread().getName());
+            resolved.set(invocation.getArgument(0));
+            return SocialLoginResult.builder().user(user).requiresConsent(false).build();
+        });
+
+        SocialLoginResult result = service.kakaoLoginAndGetUserAsync("fresh").get(10, TimeUnit.SECONDS);
+
+        assertThat(result.getUser()).isSameAs(user);
+        assertThat(repositoryThread.get()).startsWith("social-login-db-");
+        assertThat(resolved.get().getId()).isEqualTo("1234");
+        assertThat(resolved.get().getEmail()).isEqualTo("k@test.com");
+        assertThat(resolved.get().getName()).isEqualTo("카카오");
+    }
+
+    @Test
+    void recordsProviderCallsPerEndpointOnThePooledClient() throws Exception {
+        Mockito.when(userService.processSocialLogin(Mockito.any(), Mockito.eq(LoginType.KAKAO)))
+                .thenReturn(SocialLoginResult.builder().user(User.builder().id(1L).build()).requiresConsent(false).build());
+
+        service.kakaoLoginAndGetUserAsync("fresh").get(10, TimeUnit.SECONDS);
+
+        assertThat(httpMetrics.get("httpcomponents.httpclient.request").tag("uri", "/oauth/token").timer().count()).isEqualTo(1);
+        assertThat(httpMetrics.get("httpcomponents.httpclient.request").tag("uri", "/v2/user/me").timer().count()).isEqualTo(1);
+        assertThat(httpMetrics.get("httpcomponents.httpclient.pool.total.max").tag("httpclient", "oauth").gauge().value()).isEqualTo(4);
+    }
+
+    @Test
+    void verifiesGoogleIdTokenOffTheHttpClientThread() throws Exception {
+        AtomicReference<String> verifyThread = new AtomicReference<>();
+        Mockito.when(googleIdTokenVerifier.verify("id-token")).thenAnswer(invocation -> {
+            verifyThread.set(Thread.currentThread().getName());
+            return GoogleUserInfo.builder().id("g-1").email("g@test.com").name("구글").build();
+        });
+        User user = User.builder().id(2L).email("g@test.com").userName("구글").build();
+        Mockito.when(userService.processSocialLogin(Mockito.any(), Mockito.eq(LoginType.GOOGLE)))
+                .thenReturn(SocialLoginResult.builder().user(user).requiresConsent(false).build());
+
+        SocialLoginResult result = service.googleLoginAndGetUserAsync("fresh").get(10, TimeUnit.SECONDS);
+
+        assertThat(result.getUser()).isSameAs(user);
+        assertThat(verifyThread.get()).startsWith("social-login-verify-");
+    }
+
+    @Test
+    void failsWithoutTouchingTheRepositoryWhenTheCodeWasAlreadyUsed() {
+        assertThatThrownBy(() -> service.kakaoLoginAndGetUserAsync("used").get(10, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasMessageContaining("이미 사용된 인가 코드");
+        Mockito.verifyNoInteractions(userService);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.budgetmate.user.service;
+
+import com.budgetmate.user.service.VerificationCodeStore.VerificationResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryVerificationCodeStoreTest {
+
+    private InMemoryVerificationCodeStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryVerificationCodeStore(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(store, "codeTtl", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(store, "maxAttempts", 3);
+        ReflectionTestUtils.setField(store, "maxEntries", 100L);
+        store.init();
+    }
+
+    @Test
+    void verifiesOnceAndRejectsMismatchesOfAnyShape() {
+        store.save("a@test.com", "123456");
+
+        // 길이가 다르거나 접두사만 같거나 null이어도 예외 없이 MISMATCH (MessageDigest.isEqual 비교)
+        assertThat(store.verify("a@test.com", "12345")).isEqualTo(VerificationResult.MISMATCH);
+        assertThat(store.verify("a@test.com", "1234567")).isEqualTo(VerificationResult.MISMATCH);
+        assertThat(store.verify("a@test.com", null)).isEqualTo(VerificationResult.MISMATCH);
+
+        store.save("a@test.com", "654321"); // 다시 저장하면 코드와 시도 횟수 초기화
+        assertThat(store.verify("a@test.com", "654321")).isEqualTo(VerificationResult.VERIFIED);
+        assertThat(store.verify("a@test.com", "654321")).isEqualTo(VerificationResult.NOT_FOUND); // 한번 쓰면 삭제
+    }
+
+    @Test
+    void cutsOffAfterMaxAttemptsEvenWithTheRightCode() {
+        store.save("b@test.com", "123456");
+
+        // max-attempts(3)번까지는 틀려도 재시도 가능, 그 다음 시도는 맞는 코드여도 차단되고 코드가 삭제됨
+        for (int i = 0; i < 3; i++) {
+            assertThat(store.verify("b@test.com", "000000")).isEqualTo(VerificationResult.MISMATCH);
+        }
+        assertThat(store.verify("b@test.com", "123456")).isEqualTo(VerificationResult.TOO_MANY_ATTEMPTS);
+        assertThat(store.verify("b@test.com", "123456")).isEqualTo(VerificationResult.NOT_FOUND);
+    }
+
+    @Test
+    void reportsExpiredCodeOnceThenForgetsIt() throws InterruptedException {
+        ReflectionTestUtils.setField(store, "codeTtl", Duration.ofMillis(1));
+        store.save("c@test.com", "123456");
+        Thread.sleep(20);
+
+        assertThat(store.verify("c@test.com", "123456")).isEqualTo(VerificationResult.EXPIRED);
+        assertThat(store.verify("c@test.com", "123456")).isEqualTo(VerificationResult.NOT_FOUND);
+    }
+}
@@ -0,0 +1,71 @@
+package com.budgetmate.user.service;
+
+import com.budgetmate.user.entity.VerificationCode;
+import com.budgetmate.user.repository.VerificationCodeRepository;
+import com.budgetmate.user.service.VerificationCodeStore.VerificationResult;
+import com.budgetmate.user.support.ServiceJpaTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ServiceJpaTest
+@Import(JpaVerificationCodeStore.class)
+@TestPropertySource(properties = {
+        "verification.store=jpa",
+        "verification.max-attempts=3"
+})
+class JpaVerificationCodeStoreTest {
+
+    @Autowired
+    private JpaVerificationCodeStore store;
+
+    @Autowired
+    private VerificationCodeRepository verificationCodeRepository;
+
+    @Test
+    void verifiesOnceAndRejectsMismatchesOfAnyShape() {
+        store.save("a@test.com", "123456");
+
+        assertThat(store.verify("a@test.com", "12345")).isEqualTo(VerificationResult.MISMATCH);
+        assertThat(store.verify("a@test.com", "1234567")).isEqualTo(VerificationResult.MISMATCH);
+        assertThat(store.verify("a@test.com", null)).isEqualTo(VerificationResult.MISMATCH);
+        assertThat(verificationCodeRepository.findById("a@test.com").orElseThrow().getAttempts()).isEqualTo(3);
+
+        store.save("a@test.com", "654321"); // 다시 저장하면 코드와 시도 횟수 초기화
+        assertThat(store.verify("a@test.com", "654321")).isEqualTo(VerificationResult.VERIFIED);
+        assertThat(store.verify("a@test.com", "654321")).isEqualTo(VerificationResult.NOT_FOUND);
+    }
+
+    @Test
+    void cutsOffAfterMaxAttemptsEvenWithTheRightCode() {
+        store.save("b@test.com", "123456");
+
+        // InMemoryVerificationCodeStore와 같은 규칙: max-attempts번까지 재시도 가능, 그 다음은 차단 + 삭제
+        for (int i = 0; i < 3; i++) {
+            assertThat(store.verify("b@test.com", "000000")).isEqualTo(VerificationResult.MISMATCH);
+        }
+        assertThat(store.verify("b@test.com", "123456")).isEqualTo(VerificationResult.TOO_MANY_ATTEMPTS);
+        assertThat(verificationCodeRepository.existsById("b@test.com")).isFalse();
+    }
+
+    @Test
+    void expiredCodesAreRejectedAndSwept() {
+        Date past = new Date(System.currentTimeMillis() - 1_000);
+        verificationCodeRepository.save(VerificationCode.builder().email("c@test.com").code("123456").expiresAt(past).build());
+        verificationCodeRepository.save(VerificationCode.builder().email("d@test.com").code("123456").expiresAt(past).build());
+        store.save("e@test.com", "123456");
+
+        assertThat(store.verify("c@test.com", "123456")).isEqualTo(VerificationResult.EXPIRED);
+        assertThat(verificationCodeRepository.existsById("c@test.com")).isFalse();
+
+        store.sweepExpired(); // 검증 요청이 없던 만료 코드도 정리, 유효한 코드는 남김
+        assertThat(verificationCodeRepository.findAll())
+                .extracting(VerificationCode::getEmail)
+                .containsExactly("e@test.com");
+    }
+}
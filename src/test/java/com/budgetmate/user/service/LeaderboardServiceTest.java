@@ -0,0 +1,57 @@
+package com.budgetmate.user.service;
+
+import com.budgetmate.user.entity.User;
+import com.budgetmate.user.repository.UserRepository;
+import com.budgetmate.user.support.ServiceJpaTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import static com.budgetmate.user.support.TestUsers.save;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@ServiceJpaTest
+@Import({LeaderboardService.class, PointAccrualService.class})
+@TestPropertySource(properties = {
+        "points.flush-interval=1h"
+})
+class LeaderboardServiceTest {
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private PointAccrualService pointAccrualService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void flushedPointsAreAppliedOnceAcrossReloads() {
+        User a = save(userRepository, "a@test.com", 10);
+        User b = save(userRepository, "b@test.com", 20);
+        leaderboardService.reload();
+
+        pointAccrualService.accrue(a.getId(), 15);
+        pointAccrualService.flush();
+        assertThat(leaderboardService.rankOf(LeaderboardService.Type.POINT, a.getId()).orElseThrow().score()).isEqualTo(25);
+
+        // 적재 이후 가입 -> listener는 DB를 읽지 않고 모아뒀다가 따로 적재
+        User c = save(userRepository, "c@test.com", 5);
+        pointAccrualService.accrue(c.getId(), 1);
+        pointAccrualService.flush();
+        leaderboardService.loadPendingUsers();
+        assertThat(leaderboardService.top(LeaderboardService.Type.POINT, 0, 10))
+                .extracting(RankingIndex.Entry::userId, RankingIndex.Entry::score)
+                .containsExactly(
+                        tuple(a.getId(), 25L),
+                        tuple(b.getId(), 20L),
+                        tuple(c.getId(), 6L));
+
+        leaderboardService.reload(); // 이미 DB에 반영된 적립분을 다시 더하지 않음
+        assertThat(leaderboardService.rankOf(LeaderboardService.Type.POINT, a.getId()).orElseThrow().score()).isEqualTo(25);
+        assertThat(leaderboardService.rankOf(LeaderboardService.Type.POINT, c.getId()).orElseThrow().score()).isEqualTo(6);
+    }
+}
@@ -0,0 +1,85 @@
+package com.budgetmate.user.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MailDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private MailDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void sendsQueuedMessagesInBatchesThroughLocalSmtp() throws InterruptedException {
+        dispatcher = dispatcher(ServerSetupTest.SMTP.getPort());
+
+        for (int i = 0; i < 30; i++) {
+            assertThat(dispatcher.enqueue(message("user" + i + "@example.com"))).isTrue();
+        }
+
+        assertThat(greenMail.waitForIncomingEmail(10_000, 30)).isTrue();
+        awaitCount("mail.dispatch.sent", 30);
+        assertThat(meterRegistry.counter("mail.dispatch.sent").count()).isEqualTo(30);
+        assertThat(meterRegistry.timer("mail.dispatch.send").count()).isLessThan(30); // 배치로 묶여서 전송
+    }
+
+    @Test
+    void givesUpAfterMaxAttemptsWhenSmtpIsUnreachable() throws InterruptedException {
+        dispatcher = dispatcher(1); // 아무도 listen 하지 않는 포트
+
+        dispatcher.enqueue(message("user@example.com"));
+
+        awaitCount("mail.dispatch.failed", 1);
+        assertThat(meterRegistry.counter("mail.dispatch.failed").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("mail.dispatch.retried").count()).isEqualTo(1);
+    }
+
+    private void awaitCount(String counter, double expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (meterRegistry.counter(counter).count() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    private MailDispatcher dispatcher(int smtpPort) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(smtpPort);
+
+        MailDispatcher dispatcher = new MailDispatcher(mailSender, meterRegistry);
+        ReflectionTestUtils.setField(dispatcher, "queueCapacity", 100);
+        ReflectionTestUtils.setField(dispatcher, "workerCount", 1);
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 10);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 2);
+        ReflectionTestUtils.setField(dispatcher, "retryBackoff", Duration.ofMillis(50));
+        dispatcher.init();
+        return dispatcher;
+    }
+
+    private static SimpleMailMessage message(String to) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom("noreply@budgetmate.com");
+        message.setTo(to);
+        message.setSubject("[BudgetMate] 이메일 인증 코드");
+        message.setText("인증코드: 123456");
+        return message;
+    }
+}
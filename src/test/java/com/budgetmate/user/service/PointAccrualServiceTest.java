@@ -0,0 +1,188 @@
+package com.budgetmate.user.service;
+
+import com.budgetmate.user.entity.User;
+import com.budgetmate.user.repository.UserRepository;
+import com.budgetmate.user.support.ServiceJpaTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.budgetmate.user.support.TestUsers.save;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ServiceJpaTest
+@Import(PointAccrualService.class)
+@TestPropertySource(properties = {
+        "points.flush-interval=1h",
+        "points.flush-batch-size=2",
+        "points.max-attempts=2",
+        "points.max-pending-users=3"
+})
+class PointAccrualServiceTest {
+
+    @Autowired
+    private PointAccrualService pointAccrualService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void concurrentAccrualsAreFlushedWithoutLostUpdates() throws Exception {
+        User hot = save(userRepository, "hot@test.com", 10);
+        User cold = save(userRepository, "cold@test.com", 10);
+        List<Map<Long, Long>> flushed = new CopyOnWriteArrayList<>();
+        pointAccrualService.addListener((sequence, deltas) -> flushed.add(deltas));
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 5_000; i++) {
+                    pointAccrualService.accrue(hot.getId(), 1);
+                    if (i % 10 == 0) {
+                        pointAccrualService.flush(); // 적립 도중 flush가 끼어들어도 유실 없어야 함
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        pointAccrualService.accrue(cold.getId(), 7);
+        pointAccrualService.accrue(Long.MAX_VALUE, 3); // 없는 사용자 -> 버려짐
+        assertThat(pointAccrualService.currentPoints(cold.getId())).isEqualTo(17); // DB 10 + 미반영 7
+
+        pointAccrualService.flushOnShutdown();
+
+        assertThat(userRepository.findById(hot.getId()).orElseThrow().getPoint()).isEqualTo(10 + 40_000);
+        assertThat(userRepository.findById(cold.getId()).orElseThrow().getPoint()).isEqualTo(17);
+        assertThat(pointAccrualService.pendingDelta(hot.getId())).isZero();
+        assertThat(pointAccrualService.currentPoints(hot.getId())).isEqualTo(40_010);
+        assertThat(flushed.stream().mapToLong(deltas -> deltas.getOrDefault(hot.getId(), 0L)).sum()).isEqualTo(40_000);
+        assertThat(flushed).noneMatch(deltas -> deltas.containsKey(Long.MAX_VALUE));
+    }
+
+    @Test
+    void fullBufferRejectsUntilFlushed() {
+        assertThat(pointAccrualService.hasCapacity()).isTrue();
+        for (long userId = 1; userId <= 3; userId++) {
+            pointAccrualService.accrue(userId, 1); // 요청 스레드에서 flush하지 않음
+        }
+        assertThat(pointAccrualService.hasCapacity()).isFalse();
+
+        pointAccrualService.flush();
+        pointAccrualService.flush(); // 적립이 없던 주기에 셀이 정리됨
+
+        assertThat(pointAccrualService.hasCapacity()).isTrue();
+    }
+
+    @Test
+    void readDoesNotBlockFlushAndIsRetriedWhenAFlushLandsInBetween() throws Exception {
+        User user = save(userRepository, "reader@test.com", 10);
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch flushed = new CountDownLatch(1);
+        AtomicInteger reads = new AtomicInteger();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<Long> result = executor.submit(() -> pointAccrualService.readBetweenFlushes(() -> {
+            Long point = jdbcTemplate.queryForObject("SELECT point FROM user WHERE id = ?", Long.class, user.getId());
+            if (reads.incrementAndGet() == 1) {
+                reading.countDown();
+                awaitQuietly(flushed); // 첫 읽기는 flush가 끝날 때까지 붙잡아 둠
+            }
+            return point;
+        }, point -> point + pointAccrualService.pendingDelta(user.getId())));
+
+        assertThat(reading.await(10, TimeUnit.SECONDS)).isTrue();
+        pointAccrualService.accrue(user.getId(), 5);
+        pointAccrualService.flush(); // 읽기가 진행 중이어도 기다리지 않음
+        flushed.countDown();
+
+        assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo(15); // 읽기 도중 flush가 끝났으므로 다시 읽음
+        assertThat(reads.get()).isEqualTo(2);
+        executor.shutdown();
+    }
+
+    @Test
+    void failingRowIsDeadLetteredWithoutBlockingOthers() {
+        User good = save(userRepository, "good@test.com", 10);
+        User bad = save(userRepository, "bad@test.com", 995);
+        jdbcTemplate.execute("ALTER TABLE user ADD CONSTRAINT ck_point_test CHECK (point < 1000)");
+        try {
+            pointAccrualService.accrue(good.getId(), 5);
+            pointAccrualService.accrue(bad.getId(), 10); // CHECK 위반 -> 이 행만 실패
+
+            pointAccrualService.flush(); // 묶음 실패 -> 행 단위 재시도, bad는 1회 실패로 다시 쌓임
+            assertThat(userRepository.findById(good.getId()).orElseThrow().getPoint()).isEqualTo(15);
+            assertThat(pointAccrualService.pendingDelta(bad.getId())).isEqualTo(10);
+
+            pointAccrualService.flush(); // max-attempts(2) 도달 -> dead-letter
+            assertThat(pointAccrualService.pendingDelta(bad.getId())).isZero();
+            assertThat(userRepository.findById(bad.getId()).orElseThrow().getPoint()).isEqualTo(995);
+        } finally {
+            jdbcTemplate.execute("ALTER TABLE user DROP CONSTRAINT ck_point_test");
+        }
+    }
+
+    @Test
+    void pointIsClampedToIntRangeAndInvalidDeltaIsRejected() {
+        User rich = save(userRepository, "rich@test.com", Integer.MAX_VALUE - 5);
+        Map<Long, Long> notified = new ConcurrentHashMap<>();
+        pointAccrualService.addListener((sequence, deltas) -> {
+            if (deltas.containsKey(rich.getId())) {
+                notified.put(rich.getId(), deltas.get(rich.getId()));
+            }
+        });
+        double flushedBefore = meterRegistry.counter("points.flushed").count();
+        double cappedBefore = meterRegistry.counter("points.capped").count();
+
+        pointAccrualService.accrue(rich.getId(), 100);
+        pointAccrualService.flush();
+
+        // listener/메트릭에는 DB에 실제로 더해진 5만 전달, 나머지 95는 capped
+        assertThat(userRepository.findById(rich.getId()).orElseThrow().getPoint()).isEqualTo(Integer.MAX_VALUE);
+        assertThat(notified).containsEntry(rich.getId(), 5L);
+        assertThat(meterRegistry.counter("points.flushed").count() - flushedBefore).isEqualTo(5);
+        assertThat(meterRegistry.counter("points.capped").count() - cappedBefore).isEqualTo(95);
+
+        pointAccrualService.accrue(rich.getId(), 1);
+        pointAccrualService.flush(); // 이미 최대값 -> 반영할 것이 없으므로 listener에도 전달하지 않음
+        assertThat(notified).containsEntry(rich.getId(), 5L);
+        assertThatThrownBy(() -> pointAccrualService.accrue(rich.getId(), 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> pointAccrualService.accrue(rich.getId(), -1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> pointAccrualService.accrue(rich.getId(), pointAccrualService.maxDelta() + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.budgetmate.user.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RankingIndexTest {
+
+    @Test
+    void matchesSortedReferenceAfterRandomUpdates() {
+        RankingIndex index = new RankingIndex();
+        Map<Long, Long> reference = new HashMap<>();
+        Random random = new Random(42);
+
+        Map<Long, Long> initial = new HashMap<>();
+        for (long id = 1; id <= 500; id++) {
+            initial.put(id, (long) random.nextInt(50));
+        }
+        index.replaceAll(initial);
+        reference.putAll(initial);
+
+        for (int i = 0; i < 5_000; i++) {
+            long id = 1 + random.nextInt(600);
+            switch (random.nextInt(3)) {
+                case 0 -> {
+                    long score = random.nextInt(50);
+                    index.put(id, score);
+                    reference.put(id, score);
+                }
+                case 1 -> {
+                    long delta = random.nextInt(11) - 5;
+                    index.add(id, delta, 0);
+                    reference.merge(id, delta, Long::sum);
+                }
+                default -> {
+                    index.remove(id);
+                    reference.remove(id);
+                }
+            }
+        }
+
+        List<Map.Entry<Long, Long>> sorted = reference.entrySet().stream()
+                .sorted(Comparator.<Map.Entry<Long, Long>>comparingLong(Map.Entry::getValue).reversed()
+                        .thenComparingLong(Map.Entry::getKey))
+                .toList();
+
+        assertThat(index.size()).isEqualTo(sorted.size());
+        List<RankingIndex.Entry> all = index.page(0, sorted.size() + 10);
+        assertThat(all).hasSize(sorted.size());
+        for (int i = 0; i < sorted.size(); i++) {
+            long id = sorted.get(i).getKey();
+            long score = sorted.get(i).getValue();
+            long expectedRank = 1 + reference.values().stream().filter(s -> s > score).count();
+            assertThat(all.get(i)).isEqualTo(new RankingIndex.Entry(id, score, expectedRank));
+            assertThat(index.get(id)).isEqualTo(all.get(i));
+        }
+    }
+
+    @Test
+    void aroundReturnsNeighboursClampedAtTop() {
+        RankingIndex index = new RankingIndex();
+        index.replaceAll(Map.of(1L, 100L, 2L, 90L, 3L, 90L, 4L, 80L, 5L, 70L));
+
+        assertThat(index.around(1L, 2)).extracting(RankingIndex.Entry::userId).containsExactly(1L, 2L, 3L);
+        assertThat(index.around(3L, 1)).extracting(RankingIndex.Entry::userId).containsExactly(2L, 3L, 4L);
+        assertThat(index.get(3L).rank()).isEqualTo(2); // 2, 3번은 동점이라 같은 순위
+        assertThat(index.get(4L).rank()).isEqualTo(4);
+        assertThat(index.around(99L, 2)).isEmpty();
+    }
+}
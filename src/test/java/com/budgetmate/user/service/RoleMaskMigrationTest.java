@@ -0,0 +1,60 @@
+package com.budgetmate.user.service;
+
+import com.budgetmate.user.entity.Role;
+import com.budgetmate.user.entity.User;
+import com.budgetmate.user.repository.UserRepository;
+import com.budgetmate.user.support.ServiceJpaTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ServiceJpaTest
+@Import(RoleMaskMigration.class)
+class RoleMaskMigrationTest {
+
+    @Autowired
+    private RoleMaskMigration roleMaskMigration;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void movesLegacyRoleRowsIntoMaskAndRenamesTable() {
+        // role_mask 컬럼이 막 추가된 기존 데이터 상태를 흉내냄
+        jdbcTemplate.execute("CREATE TABLE user_roles (user_id BIGINT NOT NULL, roles VARCHAR(255))");
+        long admin = insertLegacyUser("admin@test.com");
+        long plain = insertLegacyUser("user@test.com");
+        long noRows = insertLegacyUser("none@test.com");
+        jdbcTemplate.update("INSERT INTO user_roles (user_id, roles) VALUES (?, 'ROLE_USER'), (?, 'ROLE_ADMIN'), (?, 'ROLE_USER'), (?, 'ROLE_UNKNOWN')",
+                admin, admin, plain, plain);
+
+        roleMaskMigration.migrate();
+
+        User migratedAdmin = userRepository.findById(admin).orElseThrow();
+        assertThat(migratedAdmin.getRoles()).containsExactly("ROLE_USER", "ROLE_ADMIN");
+        assertThat(userRepository.findById(plain).orElseThrow().getRoles()).containsExactly("ROLE_USER");
+        assertThat(userRepository.findById(noRows).orElseThrow().getRoles()).containsExactly("ROLE_USER");
+
+        // 같은 조합이면 같은 불변 인스턴스
+        assertThat(migratedAdmin.getRoles()).isSameAs(Role.names(Role.USER.getBit() | Role.ADMIN.getBit()));
+        assertThat(migratedAdmin.getAuthorities()).isSameAs(Role.authorities(migratedAdmin.getRoles()));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_roles_legacy", Integer.class)).isEqualTo(4);
+        roleMaskMigration.migrate(); // user_roles가 없으므로 아무것도 안 함
+    }
+
+    private long insertLegacyUser(String email) {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        jdbcTemplate.update("INSERT INTO user (email, login_type, role_mask, last_week, current_week, point, badge, created_at, updated_at) " +
+                "VALUES (?, 'LOCAL', 0, 0, 0, 0, 0, ?, ?)", email, now, now);
+        return jdbcTemplate.queryForObject("SELECT id FROM user WHERE email = ?", Long.class, email);
+    }
+}
@@ -0,0 +1,91 @@
+package com.budgetmate.user.service;
+
+import com.budgetmate.user.entity.RevokedToken;
+import com.budgetmate.user.repository.RevokedTokenRepository;
+import com.budgetmate.user.security.VerifiedToken;
+import com.budgetmate.user.support.ServiceJpaTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ServiceJpaTest
+@Import(TokenRevocationService.class)
+@TestPropertySource(properties = {
+        "revocation.expected-insertions=1000"
+})
+class TokenRevocationServiceTest {
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void revokedTokensAreRejectedUntilExpiryAndOthersSkipTheDatabase() {
+        VerifiedToken loggedOut = token(Duration.ofHours(1));
+        VerifiedToken active = token(Duration.ofHours(1));
+
+        // 첫 적재 전에는 filter 없이 DB로 확인
+        assertThat(tokenRevocationService.revoke(loggedOut)).isTrue();
+        assertThat(tokenRevocationService.isRevoked(loggedOut)).isTrue();
+
+        // 다른 인스턴스에서 revoke된 행 + 이미 만료된 행
+        VerifiedToken elsewhere = token(Duration.ofHours(1));
+        revokedTokenRepository.save(row(elsewhere.getTokenId(), Instant.now().plus(Duration.ofHours(1))));
+        revokedTokenRepository.save(row(UUID.randomUUID().toString(), Instant.now().minusSeconds(1)));
+
+        tokenRevocationService.rebuild();
+        assertThat(revokedTokenRepository.count()).isEqualTo(2); // 만료된 행은 정리됨
+
+        assertThat(tokenRevocationService.isRevoked(loggedOut)).isTrue();
+        assertThat(tokenRevocationService.isRevoked(elsewhere)).isTrue();
+        for (int i = 0; i < 100; i++) {
+            assertThat(tokenRevocationService.isRevoked(token(Duration.ofHours(1)))).isFalse();
+        }
+        assertThat(tokenRevocationService.isRevoked(active)).isFalse();
+        double absent = meterRegistry.get("jwt.revocation.checks").tag("result", "absent").counter().count();
+        double falsePositive = meterRegistry.get("jwt.revocation.checks").tag("result", "false_positive").counter().count();
+        assertThat(absent + falsePositive).isEqualTo(101);
+        assertThat(falsePositive).isLessThan(5);
+
+        // 재구성 이후 다른 인스턴스에서 revoke -> sync로 반영
+        VerifiedToken later = token(Duration.ofHours(1));
+        revokedTokenRepository.save(row(later.getTokenId(), Instant.now().plus(Duration.ofHours(1))));
+        tokenRevocationService.sync();
+        assertThat(tokenRevocationService.isRevoked(later)).isTrue();
+        assertThat(meterRegistry.get("jwt.revocation.filter.entries").gauge().value()).isEqualTo(3);
+
+        // jti 없는 (도입 전) 토큰은 revoke 대상이 아님
+        VerifiedToken legacy = new VerifiedToken(null, 1L, "legacy@test.com", List.of("ROLE_USER"), Instant.now(), Instant.now().plusSeconds(60));
+        assertThat(tokenRevocationService.revoke(legacy)).isFalse();
+        assertThat(tokenRevocationService.isRevoked(legacy)).isFalse();
+    }
+
+    private static VerifiedToken token(Duration ttl) {
+        Instant now = Instant.now();
+        return new VerifiedToken(UUID.randomUUID().toString(), 1L, "user@test.com", List.of("ROLE_USER"), now, now.plus(ttl));
+    }
+
+    private static RevokedToken row(String jti, Instant expiresAt) {
+        return RevokedToken.builder()
+                .jti(jti)
+                .userId(1L)
+                .expiresAt(Date.from(expiresAt))
+                .revokedAt(new Date())
+                .build();
+    }
+}
@@ -0,0 +1,60 @@
+package com.budgetmate.user.service;
+
+import com.budgetmate.user.dto.UserProfile;
+import com.budgetmate.user.entity.User;
+import com.budgetmate.user.repository.UserRepository;
+import com.budgetmate.user.support.ServiceJpaTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static com.budgetmate.user.support.TestUsers.save;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ServiceJpaTest
+@Import({UserBatchService.class, PointAccrualService.class})
+@TestPropertySource(properties = {
+        "points.flush-interval=1h",
+        "user.batch.chunk-size=2",
+        "user.batch.max-size=6"
+})
+class UserBatchServiceTest {
+
+    @Autowired
+    private UserBatchService userBatchService;
+
+    @Autowired
+    private PointAccrualService pointAccrualService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void resolvesInInputOrderAcrossChunksWithPendingPoints() {
+        User a = save(userRepository, "a@test.com", 10);
+        User b = save(userRepository, "b@test.com", 20);
+        User c = save(userRepository, "c@test.com", 30);
+        pointAccrualService.accrue(b.getId(), 5);
+
+        UserBatchService.Result result = userBatchService.resolveByIds(
+                Arrays.asList(c.getId(), a.getId(), -1L, c.getId(), b.getId(), null));
+
+        assertThat(result.users()).extracting(UserProfile::getId).containsExactly(c.getId(), a.getId(), b.getId());
+        assertThat(result.users()).extracting(UserProfile::getPoint).containsExactly(30L, 10L, 25L);
+        assertThat(result.missing()).containsExactly(-1L);
+
+        // 이메일은 정확히 일치할 때만 찾음. missing에는 요청한 값 그대로
+        UserBatchService.Result byEmail = userBatchService.resolveByEmails(
+                List.of("B@Test.com", "none@test.com", "a@test.com", "b@test.com", "a@test.com"));
+        assertThat(byEmail.users()).extracting(UserProfile::getEmail).containsExactly("a@test.com", "b@test.com");
+        assertThat(byEmail.missing()).containsExactly("B@Test.com", "none@test.com");
+
+        assertThatThrownBy(() -> userBatchService.resolveByIds(List.of(1L, 1L, 1L, 1L, 1L, 1L, 1L))) // 중복이어도 요청 개수로 제한
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
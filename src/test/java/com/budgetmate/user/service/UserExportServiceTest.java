@@ -0,0 +1,80 @@
+package com.budgetmate.user.service;
+
+import com.budgetmate.user.repository.UserRepository;
+import com.budgetmate.user.support.ServiceJpaTest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.budgetmate.user.support.TestUsers.user;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ServiceJpaTest
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import(UserExportService.class)
+@TestPropertySource(properties = {
+        "export.chunk-size=2"
+})
+class UserExportServiceTest {
+
+    @Autowired
+    private UserExportService userExportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void streamsAllUsersInIdOrderAcrossChunksAndFiltersIncrementally() throws Exception {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(userRepository.save(user("u" + i + "@test.com").userName("u" + i).build()).getId());
+        }
+        Instant cutoff = Instant.now().plusSeconds(60);
+        jdbcTemplate.update("UPDATE user SET updated_at = ? WHERE id IN (?, ?)",
+                Timestamp.from(cutoff.plusSeconds(1)), ids.get(1), ids.get(3));
+
+        List<JsonNode> all = export(new UserExportService.Filter(0, null, null));
+        assertThat(all).extracting(node -> node.get("id").asLong()).containsExactlyElementsOf(ids);
+        assertThat(all.get(0).has("password")).isFalse();
+        assertThat(all.get(0).get("roles").get(0).asText()).isEqualTo("ROLE_USER");
+
+        List<JsonNode> changed = export(new UserExportService.Filter(0, null, cutoff));
+        assertThat(changed).extracting(node -> node.get("id").asLong()).containsExactly(ids.get(1), ids.get(3));
+        assertThat(changed).noneMatch(node -> node.has("password"));
+
+        List<JsonNode> resumed = export(new UserExportService.Filter(ids.get(2), null, null));
+        assertThat(resumed).extracting(node -> node.get("id").asLong()).containsExactly(ids.get(3), ids.get(4));
+    }
+
+    private List<JsonNode> export(UserExportService.Filter filter) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long written = userExportService.export(filter, out);
+        List<JsonNode> nodes = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isBlank()) {
+                nodes.add(objectMapper.readTree(line));
+            }
+        }
+        assertThat(nodes).hasSize((int) written);
+        return nodes;
+    }
+}
@@ -0,0 +1,86 @@
+package com.budgetmate.user.service;
+
+import com.budgetmate.user.dto.UserImportReport;
+import com.budgetmate.user.entity.User;
+import com.budgetmate.user.repository.UserRepository;
+import com.budgetmate.user.support.ServiceJpaTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ServiceJpaTest
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import(UserImportService.class)
+@TestPropertySource(properties = {
+        "import.batch-size=2",
+        "import.max-reported-errors=10"
+})
+class UserImportServiceTest {
+
+    private static final String HASH = "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z1XKqJ6sQ6sY1rD3QvP8xW6e";
+
+    @Autowired
+    private UserImportService userImportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void importsNdjsonInChunksAndReportsDuplicatesAndFailures() throws Exception {
+        userRepository.save(User.builder().email("existing@test.com").password(HASH).userName("기존").build());
+
+        String ndjson = String.join("\n",
+                "{\"email\":\"a@test.com\",\"password\":\"" + HASH + "\",\"userName\":\"에이\"}",
+                "{\"email\":\"b@test.com\",\"password\":\"" + HASH + "\",\"roles\":[\"ROLE_USER\",\"ROLE_ADMIN\"]}",
+                "{\"email\":\"a@test.com\",\"password\":\"" + HASH + "\"}",
+                "{\"email\":\"existing@test.com\",\"password\":\"" + HASH + "\"}",
+                "{\"email\":\"plain@test.com\",\"password\":\"plaintext\"}",
+                "{not json",
+                "",
+                "{\"email\":\"kakao@test.com\",\"loginType\":\"kakao\",\"socialId\":\"k-1\"}");
+
+        UserImportReport report = userImportService.importUsers(stream(ndjson), UserImportService.Format.NDJSON);
+
+        assertThat(report.getTotal()).isEqualTo(7);
+        assertThat(report.getInserted()).isEqualTo(3);
+        assertThat(report.getDuplicates()).isEqualTo(2);
+        assertThat(report.getFailed()).isEqualTo(2);
+        assertThat(report.getErrors()).extracting(UserImportReport.RowError::getLine).containsExactly(5L, 6L);
+
+        assertThat(userRepository.findByEmail("b@test.com")).get()
+                .satisfies(user -> assertThat(user.getRoles()).containsExactlyInAnyOrder("ROLE_USER", "ROLE_ADMIN"));
+        assertThat(userRepository.findByEmail("kakao@test.com")).get()
+                .satisfies(user -> assertThat(user.getSocialId()).isEqualTo("k-1"));
+    }
+
+    @Test
+    void importsCsvWithQuotedFieldsAndPipeSeparatedRoles() throws Exception {
+        String csv = String.join("\n",
+                "email,password,userName,roles",
+                "csv1@test.com," + HASH + ",\"홍, 길동\",ROLE_USER|ROLE_ADMIN",
+                "csv2@test.com," + HASH + ",,");
+
+        UserImportReport report = userImportService.importUsers(stream(csv), UserImportService.Format.CSV);
+
+        assertThat(report.getInserted()).isEqualTo(2);
+        assertThat(userRepository.findByEmail("csv1@test.com")).get()
+                .satisfies(user -> {
+                    assertThat(user.getUserName()).isEqualTo("홍, 길동");
+                    assertThat(user.getRoles()).containsExactlyInAnyOrder("ROLE_USER", "ROLE_ADMIN");
+                });
+        assertThat(userRepository.findByEmail("csv2@test.com")).get()
+                .satisfies(user -> assertThat(user.getRoles()).containsExactly("ROLE_USER"));
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,99 @@
+package com.budgetmate.user.service;
+
+import com.budgetmate.user.entity.User;
+import com.budgetmate.user.repository.UserRepository;
+import com.budgetmate.user.support.ServiceJpaTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Timestamp;
+
+import static com.budgetmate.user.support.TestUsers.user;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ServiceJpaTest
+@Import(WeeklyRolloverService.class)
+@TestPropertySource(properties = {
+        "rollover.chunk-size=2",
+        "rollover.parallelism=3",
+        "rollover.award.min-current-week=2",
+        "rollover.award.points=100"
+})
+class WeeklyRolloverServiceTest {
+
+    @Autowired
+    private WeeklyRolloverService weeklyRolloverService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM weekly_rollover");
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void rollsOverInParallelChunksAndIsIdempotent() {
+        User active = save("active@test.com", 3);
+        User idle = save("idle@test.com", 0);
+        User rich = userRepository.save(user("rich@test.com").currentWeek(3).point(Integer.MAX_VALUE - 50).build());
+        for (int i = 0; i < 5; i++) {
+            save("user" + i + "@test.com", 1);
+        }
+
+        WeeklyRolloverService.RolloverResult result = weeklyRolloverService.rollover(202542);
+
+        assertThat(result.executed()).isTrue();
+        assertThat(result.rowsUpdated()).isEqualTo(8);
+        User rolled = userRepository.findById(active.getId()).orElseThrow();
+        assertThat(rolled.getLastWeek()).isEqualTo(3);
+        assertThat(rolled.getCurrentWeek()).isZero();
+        assertThat(rolled.getPoint()).isEqualTo(110);
+        assertThat(rolled.getRolloverWeek()).isEqualTo(202542);
+        assertThat(userRepository.findById(idle.getId()).orElseThrow().getPoint()).isEqualTo(10);
+        // INT 최대값 근처 사용자는 최대값까지만 지급 (청크 전체가 실패하지 않음)
+        assertThat(userRepository.findById(rich.getId()).orElseThrow().getPoint()).isEqualTo(Integer.MAX_VALUE);
+
+        // 이미 완료된 주차는 다시 실행되지 않음
+        assertThat(weeklyRolloverService.rollover(202542).executed()).isFalse();
+        assertThat(userRepository.findById(active.getId()).orElseThrow().getPoint()).isEqualTo(110);
+    }
+
+    @Test
+    void resumesAbandonedRolloverOnlyForRemainingRowsWithinOriginalRange() {
+        User done = save("done@test.com", 4);
+        User pending = save("pending@test.com", 2);
+        // 다른 인스턴스가 done까지만 처리하고 죽은 상태
+        jdbcTemplate.update("UPDATE user SET last_week = current_week, current_week = 0, rollover_week = 202543 WHERE id = ?", done.getId());
+        Timestamp past = new Timestamp(System.currentTimeMillis() - 60_000);
+        jdbcTemplate.update("INSERT INTO weekly_rollover (week_id, status, owner, lease_until, max_user_id, started_at, rows_updated) VALUES (202543, 'RUNNING', 'dead', ?, ?, ?, 1)",
+                past, pending.getId(), past);
+        User joinedLater = save("later@test.com", 5);
+
+        WeeklyRolloverService.RolloverResult result = weeklyRolloverService.rollover(202543);
+
+        assertThat(result.executed()).isTrue();
+        assertThat(result.rowsUpdated()).isEqualTo(1);
+        assertThat(userRepository.findById(done.getId()).orElseThrow().getLastWeek()).isEqualTo(4);
+        assertThat(userRepository.findById(pending.getId()).orElseThrow().getLastWeek()).isEqualTo(2);
+        assertThat(userRepository.findById(joinedLater.getId()).orElseThrow().getCurrentWeek()).isEqualTo(5);
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM weekly_rollover WHERE week_id = 202543", String.class))
+                .isEqualTo("COMPLETED");
+    }
+
+    private User save(String email, int currentWeek) {
+        return userRepository.save(user(email)
+                .lastWeek(9)
+                .currentWeek(currentWeek)
+                .point(10)
+                .build());
+    }
+}
@@ -0,0 +1,32 @@
+package com.budgetmate.user.support;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// JdbcTemplate/JPA를 직접 쓰는 서비스 테스트 공통 설정.
+// - JPA 슬라이스 + H2 (컨텍스트마다 새 인메모리 DB, 스키마는 엔티티로 생성)
+// - 서비스가 직접 트랜잭션/배치를 다루므로 테스트 메서드는 트랜잭션으로 감싸지 않음 (롤백 없음 -> 테스트마다 다른 데이터 사용)
+// 테스트할 서비스는 @Import, 서비스 설정값은 @TestPropertySource로 추가.
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(SimpleMeterRegistry.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:${random.uuid};DB_CLOSE_DELAY=-1;NON_KEYWORDS=USER",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+public @interface ServiceJpaTest {
+}
@@ -0,0 +1,19 @@
+package com.budgetmate.user.support;
+
+import com.budgetmate.user.entity.User;
+import com.budgetmate.user.repository.UserRepository;
+
+// 테스트용 사용자. 비밀번호는 자리값, 이름은 이메일. 필요한 필드만 이어서 지정.
+public final class TestUsers {
+
+    private TestUsers() {
+    }
+
+    public static User.UserBuilder user(String email) {
+        return User.builder().email(email).password("hash").userName(email);
+    }
+
+    public static User save(UserRepository userRepository, String email, int point) {
+        return userRepository.save(user(email).point(point).build());
+    }
+}